@@ -1,15 +1,22 @@
 package com.mendes.task_manager;
 
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+import com.mendes.task_manager.service.transfer.TaskTransferCommand;
 
 @SpringBootApplication
-@EnableJpaAuditing
 public class TaskManagerApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(TaskManagerApplication.class, args);
+		SpringApplication application = new SpringApplication(TaskManagerApplication.class);
+		if (TaskTransferCommand.isCommand(args)) {
+			// One-shot import/export: no web server, and the exit code reports the outcome.
+			application.setWebApplicationType(WebApplicationType.NONE);
+			System.exit(SpringApplication.exit(application.run(args)));
+		}
+		application.run(args);
 	}
 
 }
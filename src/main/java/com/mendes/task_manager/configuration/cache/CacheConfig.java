@@ -0,0 +1,15 @@
+package com.mendes.task_manager.configuration.cache;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables the in-process task cache. Size, TTL and statistics are set through
+ * {@code spring.cache.caffeine.spec}; hit, miss and eviction counts are published
+ * as {@code cache.*} meters on the actuator metrics endpoint.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String TASKS_CACHE = "tasks";
+}
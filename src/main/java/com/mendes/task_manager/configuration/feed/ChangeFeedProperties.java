@@ -0,0 +1,20 @@
+package com.mendes.task_manager.configuration.feed;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings of the {@code /api/tasks/changes} stream: how many past events a reconnecting client
+ * can resume from, how long a connection is kept before the client has to reconnect, how often an
+ * idle connection is pinged, and how many frames may wait for one client before it is disconnected.
+ */
+@ConfigurationProperties("task-manager.change-feed")
+public record ChangeFeedProperties(
+    @DefaultValue("1024") int bufferSize,
+    @DefaultValue("30m") Duration timeout,
+    @DefaultValue("15s") Duration heartbeatInterval,
+    @DefaultValue("256") int subscriberBufferSize
+) {
+}
@@ -0,0 +1,19 @@
+package com.mendes.task_manager.configuration.idempotency;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.mendes.task_manager.service.idempotency.TaskIdempotencyStore;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableConfigurationProperties(IdempotencyProperties.class)
+public class IdempotencyConfig {
+
+    @Bean
+    public TaskIdempotencyStore taskIdempotencyStore(IdempotencyProperties properties, MeterRegistry meterRegistry) {
+        return new TaskIdempotencyStore(properties.maxKeys(), properties.ttl(), meterRegistry);
+    }
+}
@@ -0,0 +1,18 @@
+package com.mendes.task_manager.configuration.idempotency;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings of the {@code Idempotency-Key} store of {@code POST /api/tasks}: how many keys are remembered
+ * at most, the least used being evicted first, and how long a key is answered from memory after the
+ * Task it created. A retry arriving later than {@code ttl} creates a new Task.
+ */
+@ConfigurationProperties("task-manager.idempotency")
+public record IdempotencyProperties(
+    @DefaultValue("100000") long maxKeys,
+    @DefaultValue("24h") Duration ttl
+) {
+}
@@ -0,0 +1,30 @@
+package com.mendes.task_manager.configuration.metrics;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Turns {@code @Timed} on service methods into timers. Hikari, Hibernate, cache, repository and
+ * HTTP metrics are bound by Spring Boot; everything is scraped from {@code /actuator/prometheus}.
+ */
+@Configuration
+public class MetricsConfig {
+    public static final String TASK_SERVICE_TIMER = "task.service";
+    public static final String TASK_RESULT_SIZE = "task.service.result.size";
+    public static final String TASK_EXCEPTIONS = "task.exceptions";
+    public static final String TASK_JOURNAL_PENDING = "task.journal.pending";
+    public static final String TASK_FEED_SUBSCRIBERS = "task.feed.subscribers";
+    public static final String TASK_TRANSFER_ROWS = "task.transfer.rows";
+    public static final String TASK_SLOW_QUERIES = "task.slow.queries";
+    public static final String TASK_REPLICAS_HEALTHY = "task.replicas.healthy";
+    public static final String TASK_COALESCED_LOADS = "task.service.coalesced";
+    public static final String TASK_IDEMPOTENT_REQUESTS = "task.idempotency.requests";
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
@@ -0,0 +1,106 @@
+package com.mendes.task_manager.configuration.replica;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.mendes.task_manager.repository.replica.TaskReplicaRoutingDataSource;
+import com.mendes.task_manager.service.replica.ReadYourWritesInterceptor;
+import com.mendes.task_manager.service.replica.ReplicaReadAspect;
+import com.mendes.task_manager.service.replica.TaskReplicaHealthCheck;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+@Configuration
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class ReplicaConfig {
+
+    /** Replaces Boot's single pool with a primary and one pool per replica, and routes reads between them. */
+    @Configuration
+    @EnableScheduling
+    @EnableConfigurationProperties(DataSourceProperties.class)
+    @ConditionalOnProperty(prefix = "task-manager.replicas", name = "enabled", havingValue = "true")
+    static class ReplicaRoutingConfig implements WebMvcConfigurer {
+
+        @Autowired
+        ReplicaProperties replicas;
+
+        @Autowired
+        ListableBeanFactory beanFactory;
+
+        /** A session opened for the whole request would keep the connection, and so the database, of its first query. */
+        @PostConstruct
+        void requireOpenInViewOff() {
+            if (beanFactory.getBeanNamesForType(OpenEntityManagerInViewInterceptor.class, false, false).length > 0) {
+                throw new IllegalStateException("task-manager.replicas requires spring.jpa.open-in-view=false.");
+            }
+        }
+
+        @Bean
+        public TaskReplicaRoutingDataSource dataSource(DataSourceProperties properties) {
+            if (replicas.urls().isEmpty()) {
+                throw new IllegalStateException("task-manager.replicas.urls must list at least one JDBC url.");
+            }
+            HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+            primary.setPoolName("task-primary");
+            List<HikariDataSource> replicaPools = new ArrayList<>();
+            for (int replica = 0; replica < replicas.urls().size(); replica++) {
+                HikariDataSource pool = properties.initializeDataSourceBuilder()
+                                            .type(HikariDataSource.class)
+                                            .url(replicas.urls().get(replica))
+                                            .build();
+                pool.setPoolName("task-replica-" + replica);
+                // A replica that cannot hand out a connection quickly is skipped in favour of the primary.
+                pool.setConnectionTimeout(replicas.connectionTimeout().toMillis());
+                replicaPools.add(pool);
+            }
+            return new TaskReplicaRoutingDataSource(primary, replicaPools);
+        }
+
+        @Bean
+        public FlywayMigrationStrategy replicaMigrationStrategy(DataSource dataSource) throws SQLException {
+            TaskReplicaRoutingDataSource routing = dataSource.unwrap(TaskReplicaRoutingDataSource.class);
+            return flyway -> {
+                flyway.migrate();
+                if (replicas.migrate()) {
+                    for (DataSource replica : routing.replicas()) {
+                        Flyway.configure().configuration(flyway.getConfiguration()).dataSource(replica).load().migrate();
+                    }
+                }
+            };
+        }
+
+        @Bean
+        public ReplicaReadAspect replicaReadAspect() {
+            return new ReplicaReadAspect();
+        }
+
+        @Bean
+        public TaskReplicaHealthCheck taskReplicaHealthCheck(DataSource dataSource, MeterRegistry meterRegistry) throws SQLException {
+            return new TaskReplicaHealthCheck(dataSource.unwrap(TaskReplicaRoutingDataSource.class), meterRegistry);
+        }
+
+        @Override
+        public void addInterceptors(InterceptorRegistry registry) {
+            registry.addInterceptor(new ReadYourWritesInterceptor(replicas.stickiness())).addPathPatterns("/api/tasks", "/api/tasks/**");
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.mendes.task_manager.configuration.replica;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings of read replica routing. The primary is {@code spring.datasource.url}; {@code urls} lists one
+ * JDBC url per replica, using the same credentials. {@code migrate} also applies the Flyway migrations to
+ * the replicas, for databases that do not replicate the schema themselves. The health check period is read
+ * directly by the scheduler from {@code task-manager.replicas.health-check-interval-ms}.
+ */
+@ConfigurationProperties("task-manager.replicas")
+public record ReplicaProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue List<String> urls,
+    @DefaultValue("5s") Duration stickiness,
+    @DefaultValue("2s") Duration connectionTimeout,
+    @DefaultValue("false") boolean migrate
+) {
+}
@@ -0,0 +1,54 @@
+package com.mendes.task_manager.configuration.sharding;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.mendes.task_manager.repository.sharding.TaskShardContext;
+import com.mendes.task_manager.repository.sharding.TaskShardRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+@Configuration
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    /** Replaces Boot's single pool with one pool per shard behind a routing DataSource. */
+    @Configuration
+    @EnableConfigurationProperties(DataSourceProperties.class)
+    @ConditionalOnProperty(prefix = "task-manager.sharding", name = "enabled", havingValue = "true")
+    static class ShardedDataSourceConfig {
+
+        @Bean
+        public TaskShardRoutingDataSource dataSource(ShardingProperties sharding, DataSourceProperties properties) {
+            if (sharding.urls().isEmpty()) {
+                throw new IllegalStateException("task-manager.sharding.urls must list at least one JDBC url.");
+            }
+            List<HikariDataSource> shards = new ArrayList<>();
+            for (int shard = 0; shard < sharding.urls().size(); shard++) {
+                HikariDataSource pool = properties.initializeDataSourceBuilder()
+                                            .type(HikariDataSource.class)
+                                            .url(sharding.urls().get(shard))
+                                            .build();
+                pool.setPoolName("task-shard-" + shard);
+                shards.add(pool);
+            }
+            return new TaskShardRoutingDataSource(shards);
+        }
+
+        /** Every shard holds the full schema, so the same migrations are applied to each of them in turn. */
+        @Bean
+        public FlywayMigrationStrategy shardedMigrationStrategy(ShardingProperties sharding) {
+            return flyway -> {
+                for (int shard = 0; shard < sharding.shards(); shard++) {
+                    TaskShardContext.call(shard, flyway::migrate);
+                }
+            };
+        }
+    }
+}
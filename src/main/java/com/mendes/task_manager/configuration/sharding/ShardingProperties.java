@@ -0,0 +1,26 @@
+package com.mendes.task_manager.configuration.sharding;
+
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import com.mendes.task_manager.repository.sharding.TaskShardRouter;
+
+/**
+ * Settings of the sharded storage mode. {@code urls} lists one JDBC url per shard, in shard order; the
+ * credentials and driver are the ones of {@code spring.datasource}. {@code rangeSize} only applies to the
+ * {@code range} strategy.
+ */
+@ConfigurationProperties("task-manager.sharding")
+public record ShardingProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("hash") TaskShardRouter.Strategy strategy,
+    @DefaultValue("1000000") long rangeSize,
+    @DefaultValue List<String> urls
+) {
+
+    public int shards() {
+        return enabled ? urls.size() : 1;
+    }
+}
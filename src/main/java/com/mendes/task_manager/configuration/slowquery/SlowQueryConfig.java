@@ -0,0 +1,40 @@
+package com.mendes.task_manager.configuration.slowquery;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.mendes.task_manager.service.slowquery.SlowQueryDataSource;
+import com.mendes.task_manager.service.slowquery.SlowQueryLog;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableConfigurationProperties(SlowQueryProperties.class)
+@ConditionalOnProperty(prefix = "task-manager.slow-query", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryConfig {
+
+    @Bean
+    public SlowQueryLog slowQueryLog(SlowQueryProperties properties, MeterRegistry meterRegistry) {
+        return new SlowQueryLog(properties.threshold(), properties.sampleRate(), meterRegistry);
+    }
+
+    /**
+     * Times every statement run through the DataSource. Static, and given the log lazily, so that
+     * registering it does not create the log and its meter registry ahead of the other beans.
+     */
+    @Bean
+    public static BeanPostProcessor slowQueryDataSourcePostProcessor(ObjectProvider<SlowQueryLog> slowQueryLog) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource ? SlowQueryDataSource.wrap(dataSource, slowQueryLog::getObject) : bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,18 @@
+package com.mendes.task_manager.configuration.slowquery;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings of the slow query log. Statements that run for at least {@code threshold} are counted, and
+ * a {@code sampleRate} share of them (1.0 for all) is logged.
+ */
+@ConfigurationProperties("task-manager.slow-query")
+public record SlowQueryProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("100ms") Duration threshold,
+    @DefaultValue("1.0") double sampleRate
+) {
+}
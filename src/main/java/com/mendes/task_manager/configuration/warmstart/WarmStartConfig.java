@@ -0,0 +1,9 @@
+package com.mendes.task_manager.configuration.warmstart;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(WarmStartProperties.class)
+public class WarmStartConfig {
+}
@@ -0,0 +1,17 @@
+package com.mendes.task_manager.configuration.warmstart;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * What is loaded into the caches before the server accepts requests: the first {@code pages}
+ * {@code GET /api/tasks} pages of {@code pageSize} Tasks, and the {@code recentTasks} most recently
+ * updated Tasks. Zero skips that part.
+ */
+@ConfigurationProperties("task-manager.warm-start")
+public record WarmStartProperties(
+    @DefaultValue("0") int pages,
+    @DefaultValue("100") int pageSize,
+    @DefaultValue("0") int recentTasks
+) {
+}
@@ -0,0 +1,18 @@
+package com.mendes.task_manager.configuration.writebehind;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableConfigurationProperties(WriteBehindProperties.class)
+public class WriteBehindConfig {
+
+    /** The journal flusher only needs a scheduler when write-behind is switched on. */
+    @Configuration
+    @EnableScheduling
+    @ConditionalOnProperty(prefix = "task-manager.write-behind", name = "enabled", havingValue = "true")
+    static class SchedulingConfig {
+    }
+}
@@ -0,0 +1,23 @@
+package com.mendes.task_manager.configuration.writebehind;
+
+import java.nio.file.Path;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Settings of the write-behind ingest mode. The flush period is read directly by the
+ * scheduler from {@code task-manager.write-behind.flush-interval-ms}. Without
+ * {@code forceOnAppend}, a task is acknowledged once it is in the page cache, and an
+ * OS crash or power loss before the next flush loses it.
+ */
+@ConfigurationProperties("task-manager.write-behind")
+public record WriteBehindProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("task-manager.journal") Path journalPath,
+    @DefaultValue("64MB") DataSize journalCapacity,
+    @DefaultValue("500") int batchSize,
+    @DefaultValue("true") boolean forceOnAppend
+) {
+}
@@ -0,0 +1,176 @@
+package com.mendes.task_manager.controller;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.mendes.task_manager.dto.TaskBatchResultDTO;
+import com.mendes.task_manager.dto.TaskBatchUpdateRequestDTO;
+import com.mendes.task_manager.dto.TaskDTO;
+import com.mendes.task_manager.dto.TaskField;
+import com.mendes.task_manager.dto.TaskFilter;
+import com.mendes.task_manager.dto.TaskPageDTO;
+import com.mendes.task_manager.dto.TaskRequestDTO;
+import com.mendes.task_manager.dto.TaskSort;
+import com.mendes.task_manager.repository.TaskCollectionVersion;
+import com.mendes.task_manager.service.ReactiveTaskService;
+import com.mendes.task_manager.service.versioning.TaskVersion;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux variant of {@link TaskController}, active when the {@code reactive} profile starts the application
+ * as a reactive web application. Search and the change feed are only served by the servlet stack.
+ */
+@RestController
+@RequestMapping("/api/tasks")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTaskController {
+
+    @Autowired
+    ReactiveTaskService taskService;
+
+    @GetMapping
+    public Mono<ResponseEntity<List<TaskDTO>>> getAllTasks(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100")
+            @Min(value = 1, message = "The parameter `limit` must be between 1 and 1000.")
+            @Max(value = 1000, message = "The parameter `limit` must be between 1 and 1000.") Integer limit,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String titlePrefix,
+            @RequestParam(required = false) String createdFrom,
+            @RequestParam(required = false) String createdTo,
+            @RequestParam(required = false) String updatedFrom,
+            @RequestParam(required = false) String updatedTo,
+            ServerWebExchange exchange) {
+        Set<TaskField> selectedFields = TaskField.parse(fields);
+        TaskSort taskSort = TaskSort.parse(sort);
+        TaskFilter filter = TaskFilter.parse(titlePrefix, createdFrom, createdTo, updatedFrom, updatedTo);
+
+        // Revalidate against the collection version first so a 304 never reads the page.
+        return taskService.findCollectionVersion().flatMap(version -> {
+            if (isNotModified(version, exchange)) {
+                return Mono.empty();
+            }
+            Mono<TaskPageDTO> foundPage = filter.isEmpty() && taskSort.equals(TaskSort.DEFAULT)
+                                            ? taskService.findTaskPage(cursor, limit)
+                                            : taskService.findTaskPage(filter, taskSort, cursor, limit);
+            return foundPage.map(page -> {
+                List<TaskDTO> tasks = selectedFields == null
+                                        ? page.tasks()
+                                        : page.tasks().stream().map(dto -> TaskField.project(dto, selectedFields)).toList();
+                ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                                                        .eTag(TaskVersion.etag(version))
+                                                        .lastModified(TaskVersion.lastModified(version.lastUpdatedAt()));
+                if (page.next() != null) {
+                    response.header(TaskController.NEXT_CURSOR_HEADER, page.next());
+                }
+                return response.body(tasks);
+            });
+        });
+    }
+
+    private boolean isNotModified(TaskCollectionVersion version, ServerWebExchange exchange) {
+        long lastModified = TaskVersion.lastModified(version.lastUpdatedAt());
+        return lastModified < 0
+                ? exchange.checkNotModified(TaskVersion.etag(version))
+                : exchange.checkNotModified(TaskVersion.etag(version), Instant.ofEpochMilli(lastModified));
+    }
+
+    @GetMapping(path = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TaskDTO> streamAllTasks() {
+        return taskService.streamAllTasks();
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<TaskDTO>> getTaskById(@PathVariable @Positive(message = "ID must be a positive Integer.") Long id,
+                                                        @RequestParam(required = false) String fields) {
+        Set<TaskField> selectedFields = TaskField.parse(fields);
+        // WebFlux answers If-None-Match / If-Modified-Since with a 304 before the body is encoded.
+        return taskService.findTaskById(id).map(dto -> ResponseEntity.ok()
+                    .eTag(TaskVersion.etag(dto))
+                    .lastModified(TaskVersion.lastModified(dto.getLastUpdatedAt()))
+                    .body(selectedFields == null ? dto : TaskField.project(dto, selectedFields)));
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<TaskDTO>> createTask(@RequestBody @Valid TaskRequestDTO taskRequestDTO, ServerWebExchange exchange) {
+        return taskService.saveTask(taskRequestDTO).map(dto -> {
+            URI taskUri = UriComponentsBuilder
+                                .fromUri(exchange.getRequest().getURI())
+                                .path("/{id}")
+                                .buildAndExpand(dto.getId())
+                                .toUri();
+
+            return ResponseEntity.created(taskUri).eTag(TaskVersion.etag(dto)).body(dto);
+        });
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<TaskDTO>> updateTask(@PathVariable @Positive(message = "ID must be a positive Integer.") Long id,
+                                                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                        @RequestBody @Valid TaskRequestDTO taskRequestDTO) {
+        Mono<TaskDTO> updatedTask = ifMatch == null || TaskVersion.matchesAny(ifMatch)
+                                    ? taskService.updateTask(id, taskRequestDTO)
+                                    : taskService.updateTask(id, taskRequestDTO, TaskVersion.parseIfMatch(ifMatch, id));
+        return updatedTask.map(dto -> ResponseEntity.ok().eTag(TaskVersion.etag(dto)).body(dto));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteTaskById(@PathVariable @Positive(message = "ID must be a positive Integer.") Long id) {
+        return taskService.deleteTaskById(id).thenReturn(ResponseEntity.noContent().build());
+    }
+
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<List<TaskBatchResultDTO>>> createTasks(
+            @RequestBody @Size(min = 1, max = TaskController.MAX_BATCH_SIZE, message = "A batch must contain between {min} and {max} items.")
+            List<TaskRequestDTO> taskRequestDTOs) {
+        return taskService.saveTasks(taskRequestDTOs).map(results -> batchResponse(results, HttpStatus.CREATED));
+    }
+
+    @PutMapping("/batch")
+    public Mono<ResponseEntity<List<TaskBatchResultDTO>>> updateTasks(
+            @RequestBody @Size(min = 1, max = TaskController.MAX_BATCH_SIZE, message = "A batch must contain between {min} and {max} items.")
+            List<TaskBatchUpdateRequestDTO> taskRequestDTOs) {
+        return taskService.updateTasks(taskRequestDTOs).map(results -> batchResponse(results, HttpStatus.OK));
+    }
+
+    @DeleteMapping("/batch")
+    public Mono<ResponseEntity<List<TaskBatchResultDTO>>> deleteTasks(
+            @RequestBody @Size(min = 1, max = TaskController.MAX_BATCH_SIZE, message = "A batch must contain between {min} and {max} items.")
+            List<Long> ids) {
+        return taskService.deleteTasks(ids).map(results -> batchResponse(results, HttpStatus.OK));
+    }
+
+    private ResponseEntity<List<TaskBatchResultDTO>> batchResponse(List<TaskBatchResultDTO> results, HttpStatus success) {
+        boolean anyFailed = results.stream().anyMatch(TaskBatchResultDTO::failed);
+        return ResponseEntity.status(anyFailed ? HttpStatus.MULTI_STATUS : success).body(results);
+    }
+}
@@ -1,9 +1,19 @@
 package com.mendes.task_manager.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,53 +21,293 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.mendes.task_manager.dto.TaskBatchResultDTO;
+import com.mendes.task_manager.dto.TaskBatchUpdateRequestDTO;
 import com.mendes.task_manager.dto.TaskDTO;
+import com.mendes.task_manager.dto.TaskField;
+import com.mendes.task_manager.dto.TaskFilter;
+import com.mendes.task_manager.dto.TaskImportResultDTO;
+import com.mendes.task_manager.dto.TaskPageDTO;
 import com.mendes.task_manager.dto.TaskRequestDTO;
+import com.mendes.task_manager.dto.TaskSearchPageDTO;
+import com.mendes.task_manager.dto.TaskSort;
+import com.mendes.task_manager.repository.TaskCollectionVersion;
 import com.mendes.task_manager.service.TaskService;
+import com.mendes.task_manager.service.feed.TaskChangeFeed;
+import com.mendes.task_manager.service.idempotency.TaskIdempotencyStore;
+import com.mendes.task_manager.service.snapshot.TaskPageSnapshotCache;
+import com.mendes.task_manager.service.snapshot.TaskSnapshotCache;
+import com.mendes.task_manager.service.transfer.TaskTransferFormat;
+import com.mendes.task_manager.service.transfer.TaskTransferService;
+import com.mendes.task_manager.service.versioning.TaskVersion;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 
 @RestController
 @RequestMapping("/api/tasks")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class TaskController {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+    public static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    public static final int MAX_BATCH_SIZE = 10000;
+
     @Autowired
     TaskService taskService;
 
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    TaskPageSnapshotCache taskPageSnapshotCache;
+
+    @Autowired
+    TaskSnapshotCache taskSnapshotCache;
+
+    @Autowired
+    TaskChangeFeed taskChangeFeed;
+
+    @Autowired
+    TaskTransferService taskTransferService;
+
+    @Autowired
+    TaskIdempotencyStore taskIdempotencyStore;
+
     @GetMapping
-    public ResponseEntity<List<TaskDTO>> getAllTasks() {
-        List<TaskDTO> dtos = taskService.findAllTasks();
-        return ResponseEntity.ok().body(dtos);
+    public ResponseEntity<List<TaskDTO>> getAllTasks(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100")
+            @Min(value = 1, message = "The parameter `limit` must be between 1 and 1000.")
+            @Max(value = 1000, message = "The parameter `limit` must be between 1 and 1000.") Integer limit,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String titlePrefix,
+            @RequestParam(required = false) String createdFrom,
+            @RequestParam(required = false) String createdTo,
+            @RequestParam(required = false) String updatedFrom,
+            @RequestParam(required = false) String updatedTo,
+            WebRequest webRequest) {
+        Set<TaskField> selectedFields = TaskField.parse(fields);
+        TaskSort taskSort = TaskSort.parse(sort);
+        TaskFilter filter = TaskFilter.parse(titlePrefix, createdFrom, createdTo, updatedFrom, updatedTo);
+
+        // Revalidate against the collection version first so a 304 never reads the page.
+        TaskCollectionVersion version = taskService.findCollectionVersion();
+        if (isNotModified(version, webRequest)) {
+            return null;
+        }
+
+        TaskPageDTO page;
+        if (!filter.isEmpty() || !taskSort.equals(TaskSort.DEFAULT)) {
+            page = taskService.findTaskPage(filter, taskSort, cursor, limit, selectedFields);
+        } else {
+            page = selectedFields == null
+                    ? taskService.findTaskPage(cursor, limit)
+                    : taskService.findTaskPage(cursor, limit, selectedFields);
+        }
+
+        ResponseEntity.BodyBuilder response = collectionResponse(version, page.next());
+        return response.body(page.tasks());
     };
 
+    /**
+     * JSON pages without a fieldset, filter or sort are served from {@link TaskPageSnapshotCache}: the stored
+     * bytes, already gzipped when the client accepts it, with the collection version it keeps alongside them.
+     * Other representations go through {@link #getAllTasks}.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE,
+                params = {"!fields", "!sort", "!titlePrefix", "!createdFrom", "!createdTo", "!updatedFrom", "!updatedTo"})
+    public ResponseEntity<byte[]> getAllTasksSnapshot(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100")
+            @Min(value = 1, message = "The parameter `limit` must be between 1 and 1000.")
+            @Max(value = 1000, message = "The parameter `limit` must be between 1 and 1000.") Integer limit,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest) {
+        TaskCollectionVersion version = taskPageSnapshotCache.version();
+        if (isNotModified(version, webRequest)) {
+            return null;
+        }
+
+        TaskPageSnapshotCache.Snapshot snapshot = taskPageSnapshotCache.get(cursor, limit);
+        ResponseEntity.BodyBuilder response = collectionResponse(version, snapshot.next())
+                                                .contentType(MediaType.APPLICATION_JSON)
+                                                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.gzip());
+        }
+        return response.body(snapshot.json());
+    }
+
+    private boolean isNotModified(TaskCollectionVersion version, WebRequest webRequest) {
+        return webRequest.checkNotModified(TaskVersion.etag(version), TaskVersion.lastModified(version.lastUpdatedAt()));
+    }
+
+    private ResponseEntity.BodyBuilder collectionResponse(TaskCollectionVersion version, String next) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                                                .eTag(TaskVersion.etag(version))
+                                                .lastModified(TaskVersion.lastModified(version.lastUpdatedAt()));
+        if (next != null) {
+            response.header(NEXT_CURSOR_HEADER, next);
+        }
+        return response;
+    }
+
+    private boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    @GetMapping(path = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllTasks() {
+        StreamingResponseBody body = outputStream -> taskService.streamAllTasks(dto -> writeLine(outputStream, dto));
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    private void writeLine(OutputStream outputStream, TaskDTO dto) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(dto));
+            outputStream.write('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(@RequestParam(required = false) String format) {
+        TaskTransferFormat transferFormat = TaskTransferFormat.parse(format);
+        StreamingResponseBody body = outputStream -> taskTransferService.exportTasks(outputStream, transferFormat);
+        ContentDisposition attachment = ContentDisposition.attachment().filename("tasks." + transferFormat.extension()).build();
+        return ResponseEntity.ok()
+                    .contentType(transferFormat.mediaType())
+                    .header(HttpHeaders.CONTENT_DISPOSITION, attachment.toString())
+                    .body(body);
+    }
+
+    /** The request body is read as it arrives, so its size is not bounded by memory. */
+    @PostMapping(path = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, TaskTransferFormat.TEXT_CSV_VALUE})
+    public ResponseEntity<TaskImportResultDTO> importTasks(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                            InputStream body) throws IOException {
+        TaskImportResultDTO result = taskTransferService.importTasks(body, TaskTransferFormat.fromContentType(contentType), true);
+        return ResponseEntity.status(result.rejected() > 0 ? HttpStatus.MULTI_STATUS : HttpStatus.CREATED).body(result);
+    }
+
+    @GetMapping(path = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestHeader(value = LAST_EVENT_ID_HEADER, required = false) String lastEventId) {
+        Long resumeAfter = null;
+        if (lastEventId != null) {
+            try {
+                resumeAfter = Long.valueOf(lastEventId.trim());
+            } catch (NumberFormatException ex) {
+                // Not an id this feed issued; the client gets a reset event and reloads.
+                resumeAfter = Long.MAX_VALUE;
+            }
+        }
+        return taskChangeFeed.subscribe(resumeAfter);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<TaskDTO>> searchTasks(
+            @RequestParam(defaultValue = "") @NotBlank(message = "The parameter `q` cannot be empty.") String q,
+            @RequestParam(defaultValue = "0") @Min(value = 0, message = "The parameter `page` cannot be negative.") Integer page,
+            @RequestParam(defaultValue = "20")
+            @Min(value = 1, message = "The parameter `size` must be between 1 and 100.")
+            @Max(value = 100, message = "The parameter `size` must be between 1 and 100.") Integer size) {
+        TaskSearchPageDTO result = taskService.searchTasks(q, page, size);
+        return ResponseEntity.ok()
+                    .header(TOTAL_COUNT_HEADER, String.valueOf(result.totalHits()))
+                    .body(result.tasks());
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<TaskDTO> getTaskById(@PathVariable @Positive(message = "ID must be a positive Integer.") Long id) {
-        TaskDTO dto = taskService.findTaskById(id);
-        return ResponseEntity.ok().body(dto);
+    public ResponseEntity<TaskDTO> getTaskById(@PathVariable @Positive(message = "ID must be a positive Integer.") Long id,
+                                                @RequestParam(required = false) String fields) {
+        Set<TaskField> selectedFields = TaskField.parse(fields);
+        TaskDTO dto = selectedFields == null ? taskService.findTaskById(id) : taskService.findTaskById(id, selectedFields);
+        // Spring answers If-None-Match / If-Modified-Since with a 304 before the body is serialized.
+        return ResponseEntity.ok()
+                    .eTag(TaskVersion.etag(dto))
+                    .lastModified(TaskVersion.lastModified(dto.getLastUpdatedAt()))
+                    .body(selectedFields == null ? dto : TaskField.project(dto, selectedFields));
+    }
+
+    /**
+     * JSON Tasks without a fieldset are served from {@link TaskSnapshotCache}, whose bytes and validators
+     * were computed once per version. Other representations go through {@link #getTaskById}.
+     */
+    @GetMapping(path = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE, params = "!fields")
+    public ResponseEntity<byte[]> getTaskSnapshotById(@PathVariable @Positive(message = "ID must be a positive Integer.") Long id) {
+        TaskSnapshotCache.Snapshot snapshot = taskSnapshotCache.get(id);
+        return ResponseEntity.ok()
+                    .eTag(snapshot.etag())
+                    .lastModified(snapshot.lastModified())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(snapshot.json());
     }
 
+    /**
+     * With an {@code Idempotency-Key}, a retry of a creation is answered with the Task the first attempt
+     * created, marked by {@code Idempotent-Replayed: true}, and concurrent retries wait for that attempt
+     * instead of inserting again (see {@link TaskIdempotencyStore}).
+     */
     @PostMapping
-    public ResponseEntity<TaskDTO> createTask(@RequestBody @Valid TaskRequestDTO taskRequestDTO) {
-        TaskDTO dto = taskService.saveTask(taskRequestDTO);
+    public ResponseEntity<TaskDTO> createTask(@RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false)
+                                                @Size(min = 1, max = 255, message = "The header `Idempotency-Key` must have between {min} and {max} characters.")
+                                                String idempotencyKey,
+                                                @RequestBody @Valid TaskRequestDTO taskRequestDTO) {
+        TaskIdempotencyStore.Result result = idempotencyKey == null
+                                                ? new TaskIdempotencyStore.Result(taskService.saveTask(taskRequestDTO), false)
+                                                : taskIdempotencyStore.create(idempotencyKey, taskRequestDTO,
+                                                                                () -> taskService.saveTask(taskRequestDTO));
+        TaskDTO dto = result.task();
 
         URI taskUri = ServletUriComponentsBuilder
                             .fromCurrentRequest()
                             .path("/{id}")
                             .buildAndExpand(dto.getId())
                             .toUri();
-        
-        return ResponseEntity.created(taskUri).body(dto);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.created(taskUri).eTag(TaskVersion.etag(dto));
+        if (result.replayed()) {
+            response.header(IDEMPOTENT_REPLAYED_HEADER, "true");
+        }
+        return response.body(dto);
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<TaskDTO> updateTask(@PathVariable @Positive(message = "ID must be a positive Integer.") Long id, 
+                                                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                                                         @RequestBody @Valid TaskRequestDTO taskRequestDTO) {
-        TaskDTO dto = taskService.updateTask(id, taskRequestDTO);
-        return ResponseEntity.ok().body(dto);
+        TaskDTO dto = ifMatch == null || TaskVersion.matchesAny(ifMatch)
+                        ? taskService.updateTask(id, taskRequestDTO)
+                        : taskService.updateTask(id, taskRequestDTO, TaskVersion.parseIfMatch(ifMatch, id));
+        return ResponseEntity.ok().eTag(TaskVersion.etag(dto)).body(dto);
     }
 
     @DeleteMapping("/{id}")
@@ -65,4 +315,33 @@ public class TaskController {
         taskService.deleteTaskById(id);
         return ResponseEntity.noContent().build();
     }
+
+    @PostMapping("/batch")
+    public ResponseEntity<List<TaskBatchResultDTO>> createTasks(
+            @RequestBody @Size(min = 1, max = MAX_BATCH_SIZE, message = "A batch must contain between {min} and {max} items.")
+            List<TaskRequestDTO> taskRequestDTOs) {
+        List<TaskBatchResultDTO> results = taskService.saveTasks(taskRequestDTOs);
+        return ResponseEntity.status(batchStatus(results, HttpStatus.CREATED)).body(results);
+    }
+
+    @PutMapping("/batch")
+    public ResponseEntity<List<TaskBatchResultDTO>> updateTasks(
+            @RequestBody @Size(min = 1, max = MAX_BATCH_SIZE, message = "A batch must contain between {min} and {max} items.")
+            List<TaskBatchUpdateRequestDTO> taskRequestDTOs) {
+        List<TaskBatchResultDTO> results = taskService.updateTasks(taskRequestDTOs);
+        return ResponseEntity.status(batchStatus(results, HttpStatus.OK)).body(results);
+    }
+
+    @DeleteMapping("/batch")
+    public ResponseEntity<List<TaskBatchResultDTO>> deleteTasks(
+            @RequestBody @Size(min = 1, max = MAX_BATCH_SIZE, message = "A batch must contain between {min} and {max} items.")
+            List<Long> ids) {
+        List<TaskBatchResultDTO> results = taskService.deleteTasks(ids);
+        return ResponseEntity.status(batchStatus(results, HttpStatus.OK)).body(results);
+    }
+
+    private HttpStatus batchStatus(List<TaskBatchResultDTO> results, HttpStatus success) {
+        boolean anyFailed = results.stream().anyMatch(TaskBatchResultDTO::failed);
+        return anyFailed ? HttpStatus.MULTI_STATUS : success;
+    }
 }
@@ -0,0 +1,31 @@
+package com.mendes.task_manager.dto;
+
+import org.springframework.http.HttpStatus;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.mendes.task_manager.exception.ResponseError;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TaskBatchResultDTO(
+    Integer index,
+    Integer statusCode,
+    Long id,
+    TaskDTO task,
+    ResponseError error
+) {
+    public static TaskBatchResultDTO success(int index, HttpStatus statusCode, TaskDTO task) {
+        return new TaskBatchResultDTO(index, statusCode.value(), task.getId(), task, null);
+    }
+
+    public static TaskBatchResultDTO success(int index, HttpStatus statusCode, Long id) {
+        return new TaskBatchResultDTO(index, statusCode.value(), id, null, null);
+    }
+
+    public static TaskBatchResultDTO failure(int index, Long id, ResponseError error) {
+        return new TaskBatchResultDTO(index, error.statusCode(), id, null, error);
+    }
+
+    public boolean failed() {
+        return error != null;
+    }
+}
@@ -0,0 +1,20 @@
+package com.mendes.task_manager.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+public class TaskBatchUpdateRequestDTO extends TaskRequestDTO {
+    public TaskBatchUpdateRequestDTO() {}
+
+    @NotNull(message = "The field `id` cannot be empty.")
+    @Positive(message = "ID must be a positive Integer.")
+    private Long id;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+}
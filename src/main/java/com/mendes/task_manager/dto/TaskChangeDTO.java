@@ -0,0 +1,14 @@
+package com.mendes.task_manager.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.mendes.task_manager.service.event.TaskChangeEvent;
+
+/** Payload of a {@code /api/tasks/changes} event; {@code task} is absent for deletions. */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TaskChangeDTO(
+    long sequence,
+    TaskChangeEvent.Type type,
+    Long id,
+    TaskDTO task
+) {
+}
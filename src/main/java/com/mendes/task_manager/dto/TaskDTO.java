@@ -2,8 +2,11 @@ package com.mendes.task_manager.dto;
 
 import java.time.LocalDateTime;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.mendes.task_manager.model.Task;
 
+/** Fields left out by a sparse fieldset ({@code fields=}) are null and not serialized. */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class TaskDTO {
     private Long id;
     private String title;
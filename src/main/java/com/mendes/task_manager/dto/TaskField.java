@@ -0,0 +1,85 @@
+package com.mendes.task_manager.dto;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.mendes.task_manager.exception.InvalidQueryParameterException;
+
+/**
+ * The {@link TaskDTO} properties a client can ask for with {@code fields=}. Each one knows the
+ * entity path to select, so a sparse fieldset becomes a narrower query rather than a filter
+ * applied after the whole row has been loaded.
+ */
+public enum TaskField {
+    ID("id", "t.id", TaskDTO::getId, (dto, value) -> dto.setId((Long) value)),
+    TITLE("title", "t.title", TaskDTO::getTitle, (dto, value) -> dto.setTitle((String) value)),
+    DESCRIPTION("description", "t.description", TaskDTO::getDescription, (dto, value) -> dto.setDescription((String) value)),
+    CREATED_AT("createdAt", "t.createdAt", TaskDTO::getCreatedAt, (dto, value) -> dto.setCreatedAt((LocalDateTime) value)),
+    LAST_UPDATED_AT("lastUpdatedAt", "t.lastUpdatedAt", TaskDTO::getLastUpdatedAt, (dto, value) -> dto.setLastUpdatedAt((LocalDateTime) value));
+
+    private static final String ALLOWED = Stream.of(values()).map(TaskField::property).collect(Collectors.joining(", "));
+
+    private final String property;
+    private final String path;
+    private final Function<TaskDTO, Object> getter;
+    private final BiConsumer<TaskDTO, Object> setter;
+
+    TaskField(String property, String path, Function<TaskDTO, Object> getter, BiConsumer<TaskDTO, Object> setter) {
+        this.property = property;
+        this.path = path;
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    public String property() {
+        return property;
+    }
+
+    public String path() {
+        return path;
+    }
+
+    public Object get(TaskDTO dto) {
+        return getter.apply(dto);
+    }
+
+    public void set(TaskDTO dto, Object value) {
+        setter.accept(dto, value);
+    }
+
+    /**
+     * Parses a comma separated list of property names. Returns null when the parameter is absent,
+     * meaning every field; otherwise the result always contains {@link #ID}.
+     */
+    public static Set<TaskField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<TaskField> selected = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            String property = name.trim();
+            TaskField field = Stream.of(values())
+                                .filter(candidate -> candidate.property.equals(property))
+                                .findFirst()
+                                .orElseThrow(() -> new InvalidQueryParameterException(
+                                        String.format("The parameter `fields` accepts only: %s.", ALLOWED)));
+            selected.add(field);
+        }
+        return Collections.unmodifiableSet(selected);
+    }
+
+    /** Copies the selected fields of {@code source} into a new DTO; {@code source} is left untouched. */
+    public static TaskDTO project(TaskDTO source, Set<TaskField> fields) {
+        TaskDTO projected = new TaskDTO();
+        for (TaskField field : fields) {
+            field.set(projected, field.get(source));
+        }
+        return projected;
+    }
+}
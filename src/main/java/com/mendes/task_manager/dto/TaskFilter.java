@@ -0,0 +1,39 @@
+package com.mendes.task_manager.dto;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+import com.mendes.task_manager.exception.InvalidQueryParameterException;
+
+/**
+ * Filters of a {@code GET /api/tasks} page. {@code titlePrefix} matches the start of the title, case
+ * sensitive; the date-time ranges bound `createdAt` and `lastUpdatedAt`, the lower bound inclusive and
+ * the upper one exclusive. Every filter is a range over the leading column of an index on {@code tb_tasks}.
+ */
+public record TaskFilter(String titlePrefix,
+                            LocalDateTime createdFrom, LocalDateTime createdTo,
+                            LocalDateTime updatedFrom, LocalDateTime updatedTo) {
+    public static final TaskFilter NONE = new TaskFilter(null, null, null, null, null);
+
+    public static TaskFilter parse(String titlePrefix, String createdFrom, String createdTo, String updatedFrom, String updatedTo) {
+        return new TaskFilter(titlePrefix == null || titlePrefix.isEmpty() ? null : titlePrefix,
+                                parseDateTime("createdFrom", createdFrom), parseDateTime("createdTo", createdTo),
+                                parseDateTime("updatedFrom", updatedFrom), parseDateTime("updatedTo", updatedTo));
+    }
+
+    public boolean isEmpty() {
+        return equals(NONE);
+    }
+
+    private static LocalDateTime parseDateTime(String parameter, String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(value.trim());
+        } catch (DateTimeParseException ex) {
+            throw new InvalidQueryParameterException(
+                    String.format("The parameter `%s` must be a date-time such as 2024-01-01T00:00:00.", parameter));
+        }
+    }
+}
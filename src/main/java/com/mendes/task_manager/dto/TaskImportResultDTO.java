@@ -0,0 +1,21 @@
+package com.mendes.task_manager.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of an import. {@code rejections} lists at most the first
+ * {@code TaskTransferService.MAX_REPORTED_REJECTIONS} rejected rows; {@code rejected} counts all of them.
+ */
+public record TaskImportResultDTO(
+    long read,
+    long imported,
+    long rejected,
+    List<Rejection> rejections
+) {
+    /** {@code row} is the 1-based position of the record in the file, header excluded. */
+    public record Rejection(
+        long row,
+        List<String> errors
+    ) {
+    }
+}
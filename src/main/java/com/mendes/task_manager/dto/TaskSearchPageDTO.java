@@ -0,0 +1,9 @@
+package com.mendes.task_manager.dto;
+
+import java.util.List;
+
+public record TaskSearchPageDTO(
+    List<TaskDTO> tasks,
+    long totalHits
+) {
+}
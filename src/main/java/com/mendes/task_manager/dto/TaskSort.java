@@ -0,0 +1,50 @@
+package com.mendes.task_manager.dto;
+
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.mendes.task_manager.exception.InvalidQueryParameterException;
+
+/**
+ * Order of a {@code GET /api/tasks} page, parsed from {@code sort=}: a {@link TaskField} with an index
+ * on {@code tb_tasks}, descending when prefixed with {@code -}. Ties are broken by id, so every order
+ * is total and can be paged with a keyset cursor.
+ */
+public record TaskSort(TaskField field, boolean descending) {
+    public static final TaskSort DEFAULT = new TaskSort(TaskField.ID, false);
+
+    private static final Set<TaskField> SORTABLE = EnumSet.of(TaskField.ID, TaskField.TITLE,
+                                                                TaskField.CREATED_AT, TaskField.LAST_UPDATED_AT);
+    private static final String ALLOWED = SORTABLE.stream().map(TaskField::property).collect(Collectors.joining(", "));
+
+    /** Parses {@code property} or {@code -property}. Returns {@link #DEFAULT} when the parameter is absent. */
+    public static TaskSort parse(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return DEFAULT;
+        }
+        String property = sort.trim();
+        boolean descending = property.startsWith("-");
+        String name = descending ? property.substring(1) : property;
+        TaskField field = SORTABLE.stream()
+                            .filter(candidate -> candidate.property().equals(name))
+                            .findFirst()
+                            .orElseThrow(() -> new InvalidQueryParameterException(String.format(
+                                    "The parameter `sort` accepts only: %s, optionally prefixed with `-` for descending order.", ALLOWED)));
+        return new TaskSort(field, descending);
+    }
+
+    /** Compares tasks in this order, by the sort field and then by id. Both must have been selected. */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Comparator<TaskDTO> comparator() {
+        Comparator<TaskDTO> order = Comparator.comparing(dto -> (Comparable) field.get(dto));
+        order = order.thenComparing(TaskDTO::getId);
+        return descending ? order.reversed() : order;
+    }
+
+    /** The {@code sort=} value this order was parsed from. */
+    public String token() {
+        return descending ? "-" + field.property() : field.property();
+    }
+}
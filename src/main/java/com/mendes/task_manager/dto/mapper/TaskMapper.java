@@ -1,25 +1,26 @@
 package com.mendes.task_manager.dto.mapper;
 
-import org.modelmapper.ModelMapper;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import com.mendes.task_manager.dto.TaskDTO;
 import com.mendes.task_manager.dto.TaskRequestDTO;
 import com.mendes.task_manager.model.Task;
 
+/**
+ * Hand-specialized conversions between {@link Task} and its DTOs. Plain field copies keep the
+ * hot read path free of reflection and of the intermediate objects a generic mapper allocates.
+ */
 @Component
 public class TaskMapper {
-    @Autowired
-    private ModelMapper mapper;
 
     public Task toTaskEntity(TaskRequestDTO taskDTO) {
-        Task task = mapper.map(taskDTO, Task.class);
+        Task task = new Task();
+        task.setTitle(taskDTO.getTitle());
+        task.setDescription(taskDTO.getDescription());
         return task;
     }
 
     public TaskDTO toTaskDTO(Task taskEntity) {
-        TaskDTO dto = mapper.map(taskEntity, TaskDTO.class);
-        return dto;
+        return new TaskDTO(taskEntity);
     }
 }
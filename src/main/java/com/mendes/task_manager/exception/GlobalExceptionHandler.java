@@ -1,9 +1,10 @@
 package com.mendes.task_manager.exception;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.MessageSourceResolvable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -16,49 +17,68 @@ import org.springframework.web.method.annotation.HandlerMethodValidationExceptio
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.servlet.resource.NoResourceFoundException;
 
+import com.mendes.task_manager.configuration.metrics.MetricsConfig;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
 @RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class GlobalExceptionHandler {
+    @Autowired
+    MeterRegistry meterRegistry;
 
-    private ResponseError responseError(String message, HttpStatus statusCode) {
-        ResponseError responseError = new ResponseError(
-                                        LocalDateTime.now(), 
-                                        statusCode.value(), 
-                                        statusCode.getReasonPhrase(),
-                                        List.of(message));
-        return responseError;
+    protected ResponseError responseError(Class<? extends Exception> handled, String message, HttpStatus statusCode) {
+        return responseError(handled, List.of(message), statusCode);
     }
 
-    private ResponseError responseError(List<String> messageList, HttpStatus statusCode) {
-        ResponseError responseError = new ResponseError(
-                                        LocalDateTime.now(), 
-                                        statusCode.value(), 
-                                        statusCode.getReasonPhrase(),
-                                        messageList);
-        return responseError;
+    protected ResponseError responseError(Class<? extends Exception> handled, List<String> messageList, HttpStatus statusCode) {
+        meterRegistry.counter(MetricsConfig.TASK_EXCEPTIONS,
+                                "handler", handled.getSimpleName(),
+                                "status", String.valueOf(statusCode.value()))
+                    .increment();
+        return ResponseError.of(messageList, statusCode);
     }
 
     @ExceptionHandler(Exception.class)
     private ResponseEntity<Object> handleGeneralException(Exception ex) throws Exception {
-        ResponseError error = responseError(ex.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        ResponseError error = responseError(Exception.class, ex.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
     }
 
     @ExceptionHandler(NoResourceFoundException.class)
     private ResponseEntity<Object> handleNoResourceFoundException(NoResourceFoundException ex) {
-        ResponseError error = responseError(ex.getMessage(), HttpStatus.NOT_FOUND);
+        ResponseError error = responseError(NoResourceFoundException.class, ex.getMessage(), HttpStatus.NOT_FOUND);
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
 
     @ExceptionHandler(TaskNotFoundException.class)
     private ResponseEntity<Object> handleTaskNotFoundException(TaskNotFoundException ex) {
-        ResponseError error = responseError(ex.getMessage(), HttpStatus.NOT_FOUND);
+        ResponseError error = responseError(TaskNotFoundException.class, ex.getMessage(), HttpStatus.NOT_FOUND);
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
 
+    @ExceptionHandler(TaskVersionMismatchException.class)
+    private ResponseEntity<Object> handleTaskVersionMismatchException(TaskVersionMismatchException ex) {
+        ResponseError error = responseError(TaskVersionMismatchException.class, ex.getMessage(), HttpStatus.PRECONDITION_FAILED);
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(error);
+    }
+
+    @ExceptionHandler(IdempotencyKeyReuseException.class)
+    private ResponseEntity<Object> handleIdempotencyKeyReuseException(IdempotencyKeyReuseException ex) {
+        ResponseError error = responseError(IdempotencyKeyReuseException.class, ex.getMessage(), HttpStatus.UNPROCESSABLE_ENTITY);
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(error);
+    }
+
+    @ExceptionHandler(InvalidQueryParameterException.class)
+    private ResponseEntity<Object> handleInvalidQueryParameterException(InvalidQueryParameterException ex) {
+        ResponseError error = responseError(InvalidQueryParameterException.class, ex.getMessage(), HttpStatus.BAD_REQUEST);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
     private ResponseEntity<Object> handleMethodArgumentTypeMismatchException(MethodArgumentTypeMismatchException ex) {
         String errorMessage = "ID must be a positive Integer.";
-        ResponseError error = responseError(errorMessage, HttpStatus.BAD_REQUEST);
+        ResponseError error = responseError(MethodArgumentTypeMismatchException.class, errorMessage, HttpStatus.BAD_REQUEST);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 
@@ -68,7 +88,7 @@ public class GlobalExceptionHandler {
                                         .stream().map(FieldError::getDefaultMessage)
                                         .collect(Collectors.toList());
         
-        ResponseError error = responseError(errorMessages, HttpStatus.BAD_REQUEST);
+        ResponseError error = responseError(MethodArgumentNotValidException.class, errorMessages, HttpStatus.BAD_REQUEST);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 
@@ -79,7 +99,7 @@ public class GlobalExceptionHandler {
                                         .flatMap(List::stream).map(MessageSourceResolvable::getDefaultMessage)
                                         .collect(Collectors.toList());
 
-        ResponseError error = responseError(errorMessages, HttpStatus.BAD_REQUEST);
+        ResponseError error = responseError(HandlerMethodValidationException.class, errorMessages, HttpStatus.BAD_REQUEST);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 }
@@ -0,0 +1,7 @@
+package com.mendes.task_manager.exception;
+
+public class IdempotencyKeyReuseException extends RuntimeException {
+    public IdempotencyKeyReuseException(String key) {
+        super(String.format("Idempotency key %s was already used with a different request body.", key));
+    }
+}
@@ -0,0 +1,7 @@
+package com.mendes.task_manager.exception;
+
+public class InvalidQueryParameterException extends RuntimeException {
+    public InvalidQueryParameterException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,44 @@
+package com.mendes.task_manager.exception;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * {@link GlobalExceptionHandler} for the reactive stack. The domain and method validation handlers are
+ * inherited; these map the WebFlux counterparts of the servlet binding errors to the same responses.
+ */
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveExceptionHandler extends GlobalExceptionHandler {
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    private ResponseEntity<Object> handleWebExchangeBindException(WebExchangeBindException ex) {
+        List<String> errorMessages = ex.getBindingResult().getFieldErrors()
+                                        .stream().map(FieldError::getDefaultMessage)
+                                        .collect(Collectors.toList());
+
+        ResponseError error = responseError(WebExchangeBindException.class, errorMessages, HttpStatus.BAD_REQUEST);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    /** Unknown routes, unsupported methods or media types, and path or query values of the wrong type. */
+    @ExceptionHandler(ResponseStatusException.class)
+    private ResponseEntity<Object> handleResponseStatusException(ResponseStatusException ex) {
+        HttpStatus statusCode = HttpStatus.valueOf(ex.getStatusCode().value());
+        String errorMessage = ex.getCause() instanceof TypeMismatchException
+                                ? "ID must be a positive Integer."
+                                : ex.getReason() != null ? ex.getReason() : statusCode.getReasonPhrase();
+        ResponseError error = responseError(ex.getClass(), errorMessage, statusCode);
+        return ResponseEntity.status(statusCode).body(error);
+    }
+}
@@ -3,10 +3,23 @@ package com.mendes.task_manager.exception;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.http.HttpStatus;
+
 public record ResponseError(
     LocalDateTime timestamp,
     Integer statusCode,
     String statusError,
     List<String> errors
 ) {
+    public static ResponseError of(List<String> messageList, HttpStatus statusCode) {
+        return new ResponseError(
+                    LocalDateTime.now(),
+                    statusCode.value(),
+                    statusCode.getReasonPhrase(),
+                    messageList);
+    }
+
+    public static ResponseError of(String message, HttpStatus statusCode) {
+        return of(List.of(message), statusCode);
+    }
 }
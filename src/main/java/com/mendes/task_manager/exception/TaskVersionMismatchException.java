@@ -0,0 +1,7 @@
+package com.mendes.task_manager.exception;
+
+public class TaskVersionMismatchException extends RuntimeException {
+    public TaskVersionMismatchException(Long id) {
+        super(String.format("Task with ID %s has been modified since it was last read.", id));
+    }
+}
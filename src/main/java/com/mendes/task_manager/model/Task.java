@@ -6,18 +6,30 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import com.mendes.task_manager.service.writebehind.AllocatedTaskId;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name="tb_tasks")
+/*
+ * Each index ends with task_id, the tie-breaker of every sort order, so a filtered or sorted page
+ * of GET /api/tasks is a range scan that needs no sort step.
+ */
+@Table(name="tb_tasks", indexes={
+    @Index(name="ix_tb_tasks_title", columnList="task_title, task_id"),
+    @Index(name="ix_tb_tasks_created_at", columnList="created_at, task_id"),
+    @Index(name="ix_tb_tasks_updated_at", columnList="updated_at, task_id")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class Task {
+    /** Ids reserved per call to {@code tb_tasks_seq}, whose increment it matches; see {@code TaskIdAllocator}. */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     public Task() {}
 
     public Task(Long id, String title, String description, LocalDateTime createdAt, LocalDateTime lastUpdatedAt) {
@@ -29,7 +41,7 @@ public class Task {
     }
 
     @Id
-    @GeneratedValue(strategy=GenerationType.IDENTITY)
+    @AllocatedTaskId
     @Column(name="task_id")
     Long id;
 
@@ -0,0 +1,189 @@
+package com.mendes.task_manager.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.stereotype.Repository;
+
+import com.mendes.task_manager.dto.TaskDTO;
+import com.mendes.task_manager.dto.TaskField;
+import com.mendes.task_manager.dto.TaskFilter;
+import com.mendes.task_manager.dto.TaskSort;
+import com.mendes.task_manager.model.Task;
+
+import io.r2dbc.spi.Readable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * R2DBC counterpart of {@link TaskRepository} for the {@code reactive} profile. It reads and writes
+ * {@code tb_tasks} with the same SQL, mapping rows straight to {@link TaskDTO}.
+ */
+@Repository
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTaskRepository {
+    private static final String COLUMNS = "task_id, task_title, task_description, created_at, updated_at";
+    private static final String NEXT_VALUE_SQL = "SELECT NEXT VALUE FOR tb_tasks_seq";
+
+    @Autowired
+    DatabaseClient databaseClient;
+
+    private long nextId;
+    private long idLimit;
+
+    public Flux<TaskDTO> findByIdGreaterThanOrderByIdAsc(Long id, int limit) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM tb_tasks WHERE task_id > :id ORDER BY task_id LIMIT :limit")
+                    .bind("id", id)
+                    .bind("limit", limit)
+                    .map(ReactiveTaskRepository::toTaskDTO)
+                    .all();
+    }
+
+    /** See {@link TaskProjectionRepository#findProjectedPage(TaskFilter, TaskSort, Long, Object, int, java.util.Set)}. */
+    public Flux<TaskDTO> findPage(TaskFilter filter, TaskSort sort, Long afterId, Object afterValue, int limit) {
+        TaskPageQuery pageQuery = new TaskPageQuery(filter, sort, afterId, afterValue, ReactiveTaskRepository::column);
+        GenericExecuteSpec spec = databaseClient.sql("SELECT " + COLUMNS + " FROM tb_tasks" + pageQuery.clauses() + " LIMIT :limit")
+                                    .bind("limit", limit);
+        for (Map.Entry<String, Object> parameter : pageQuery.parameters().entrySet()) {
+            spec = spec.bind(parameter.getKey(), parameter.getValue());
+        }
+        return spec.map(ReactiveTaskRepository::toTaskDTO).all();
+    }
+
+    public Flux<TaskDTO> findAllOrderedById() {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM tb_tasks ORDER BY task_id")
+                    .map(ReactiveTaskRepository::toTaskDTO)
+                    .all();
+    }
+
+    public Mono<TaskCollectionVersion> findCollectionVersion() {
+        return databaseClient.sql("SELECT COUNT(*), MAX(task_id), MAX(updated_at) FROM tb_tasks")
+                    .map(row -> new TaskCollectionVersion(row.get(0, Long.class), row.get(1, Long.class),
+                                                            row.get(2, LocalDateTime.class)))
+                    .one();
+    }
+
+    public Mono<TaskDTO> findById(Long id) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM tb_tasks WHERE task_id = :id")
+                    .bind("id", id)
+                    .map(ReactiveTaskRepository::toTaskDTO)
+                    .one();
+    }
+
+    public Mono<Boolean> existsById(Long id) {
+        return databaseClient.sql("SELECT 1 FROM tb_tasks WHERE task_id = :id")
+                    .bind("id", id)
+                    .map(row -> true)
+                    .one()
+                    .defaultIfEmpty(false);
+    }
+
+    public Flux<Long> findExistingIds(Collection<Long> ids) {
+        return databaseClient.sql("SELECT task_id FROM tb_tasks WHERE task_id IN (:ids)")
+                    .bind("ids", ids)
+                    .map(row -> row.get(0, Long.class))
+                    .all();
+    }
+
+    /** Inserts a task with an id taken from {@code tb_tasks_seq}; both timestamps are set to {@code now}. */
+    public Mono<TaskDTO> insert(String title, String description, LocalDateTime now) {
+        return nextId().flatMap(id -> databaseClient
+                    .sql("SELECT " + COLUMNS + " FROM FINAL TABLE (INSERT INTO tb_tasks (" + COLUMNS + ") "
+                       + "VALUES (:id, :title, :description, :now, :now))")
+                    .bind("id", id)
+                    .bind("title", title)
+                    .bind("description", description)
+                    .bind("now", now)
+                    .map(ReactiveTaskRepository::toTaskDTO)
+                    .one());
+    }
+
+    /** See {@link TaskRepository#updateTask}. Completes empty when no row was affected. */
+    public Mono<TaskDTO> updateTask(Long id, String title, String description, LocalDateTime lastUpdatedAt) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM FINAL TABLE (UPDATE tb_tasks SET task_title = :title, "
+                                + "task_description = :description, updated_at = :lastUpdatedAt WHERE task_id = :id)")
+                    .bind("id", id)
+                    .bind("title", title)
+                    .bind("description", description)
+                    .bind("lastUpdatedAt", lastUpdatedAt)
+                    .map(ReactiveTaskRepository::toTaskDTO)
+                    .one();
+    }
+
+    /** See {@link TaskRepository#updateTaskIfVersion}. Completes empty when no row was affected. */
+    public Mono<TaskDTO> updateTaskIfVersion(Long id, String title, String description, LocalDateTime lastUpdatedAt,
+                                                Collection<LocalDateTime> expectedVersions) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM FINAL TABLE (UPDATE tb_tasks SET task_title = :title, "
+                                + "task_description = :description, updated_at = :lastUpdatedAt "
+                                + "WHERE task_id = :id AND updated_at IN (:expectedVersions))")
+                    .bind("id", id)
+                    .bind("title", title)
+                    .bind("description", description)
+                    .bind("lastUpdatedAt", lastUpdatedAt)
+                    .bind("expectedVersions", expectedVersions)
+                    .map(ReactiveTaskRepository::toTaskDTO)
+                    .one();
+    }
+
+    public Mono<Long> deleteTaskById(Long id) {
+        return databaseClient.sql("DELETE FROM tb_tasks WHERE task_id = :id")
+                    .bind("id", id)
+                    .fetch()
+                    .rowsUpdated();
+    }
+
+    public Mono<Long> deleteAllById(Collection<Long> ids) {
+        return databaseClient.sql("DELETE FROM tb_tasks WHERE task_id IN (:ids)")
+                    .bind("ids", ids)
+                    .fetch()
+                    .rowsUpdated();
+    }
+
+    /**
+     * Same allocation scheme as {@code TaskIdAllocator}: a sequence value {@code hi} owns the ids
+     * {@code [hi - size + 1, hi]}. Callers that race for a new block each get one; the ids left in
+     * a block that is replaced are skipped, never handed out twice.
+     */
+    private Mono<Long> nextId() {
+        synchronized (this) {
+            if (nextId < idLimit) {
+                return Mono.just(nextId++);
+            }
+        }
+        return databaseClient.sql(NEXT_VALUE_SQL)
+                    .map(row -> row.get(0, Long.class))
+                    .one()
+                    .flatMap(hi -> hi < Task.ID_ALLOCATION_SIZE ? nextId() : Mono.just(reserveBlock(hi)));
+    }
+
+    private synchronized long reserveBlock(long hi) {
+        nextId = hi - Task.ID_ALLOCATION_SIZE + 1;
+        idLimit = hi + 1;
+        return nextId++;
+    }
+
+    private static String column(TaskField field) {
+        return switch (field) {
+            case ID -> "task_id";
+            case TITLE -> "task_title";
+            case DESCRIPTION -> "task_description";
+            case CREATED_AT -> "created_at";
+            case LAST_UPDATED_AT -> "updated_at";
+        };
+    }
+
+    private static TaskDTO toTaskDTO(Readable row) {
+        TaskDTO dto = new TaskDTO();
+        dto.setId(row.get("task_id", Long.class));
+        dto.setTitle(row.get("task_title", String.class));
+        dto.setDescription(row.get("task_description", String.class));
+        dto.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        dto.setLastUpdatedAt(row.get("updated_at", LocalDateTime.class));
+        return dto;
+    }
+}
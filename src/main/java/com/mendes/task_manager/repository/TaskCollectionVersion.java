@@ -0,0 +1,22 @@
+package com.mendes.task_manager.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Aggregate that changes whenever any task is created, updated or deleted,
+ * so the list endpoint can be revalidated without reading the rows.
+ */
+public record TaskCollectionVersion(long count, Long maxId, LocalDateTime lastUpdatedAt) {
+
+    /** The version of two disjoint sets of tasks taken together, such as two shards. */
+    public TaskCollectionVersion merge(TaskCollectionVersion other) {
+        return new TaskCollectionVersion(count + other.count, max(maxId, other.maxId), max(lastUpdatedAt, other.lastUpdatedAt));
+    }
+
+    private static <T extends Comparable<? super T>> T max(T a, T b) {
+        if (a == null || b == null) {
+            return a == null ? b : a;
+        }
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+}
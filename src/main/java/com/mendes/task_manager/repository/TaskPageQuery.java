@@ -0,0 +1,86 @@
+package com.mendes.task_manager.repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.mendes.task_manager.dto.TaskField;
+import com.mendes.task_manager.dto.TaskFilter;
+import com.mendes.task_manager.dto.TaskSort;
+
+/**
+ * WHERE and ORDER BY clauses of a filtered, sorted keyset page, with their named parameters.
+ * {@link TaskProjectionRepositoryImpl} renders them over entity paths and {@link ReactiveTaskRepository}
+ * over column names, so both stacks issue the same query.
+ *
+ * <p>The keyset condition repeats the sort key as a plain bound ({@code key >= :afterValue AND (...)}),
+ * which is what lets the database start the index scan at the cursor instead of filtering from the
+ * start of the index.
+ */
+final class TaskPageQuery {
+    private static final char LIKE_ESCAPE = '!';
+
+    private final String clauses;
+    private final Map<String, Object> parameters = new LinkedHashMap<>();
+
+    TaskPageQuery(TaskFilter filter, TaskSort sort, Long afterId, Object afterValue, Function<TaskField, String> names) {
+        List<String> conditions = new ArrayList<>();
+        if (filter.titlePrefix() != null) {
+            conditions.add(names.apply(TaskField.TITLE) + " LIKE :titlePrefix ESCAPE '" + LIKE_ESCAPE + "'");
+            parameters.put("titlePrefix", escapeLike(filter.titlePrefix()) + "%");
+        }
+        addBound(conditions, names.apply(TaskField.CREATED_AT), ">=", "createdFrom", filter.createdFrom());
+        addBound(conditions, names.apply(TaskField.CREATED_AT), "<", "createdTo", filter.createdTo());
+        addBound(conditions, names.apply(TaskField.LAST_UPDATED_AT), ">=", "updatedFrom", filter.updatedFrom());
+        addBound(conditions, names.apply(TaskField.LAST_UPDATED_AT), "<", "updatedTo", filter.updatedTo());
+
+        String id = names.apply(TaskField.ID);
+        String key = names.apply(sort.field());
+        String direction = sort.descending() ? " DESC" : "";
+        if (afterId != null) {
+            String after = sort.descending() ? "<" : ">";
+            if (sort.field() == TaskField.ID) {
+                conditions.add(id + " " + after + " :afterId");
+            } else {
+                conditions.add(key + " " + after + "= :afterValue AND (" + key + " " + after + " :afterValue OR "
+                                + id + " " + after + " :afterId)");
+                parameters.put("afterValue", afterValue);
+            }
+            parameters.put("afterId", afterId);
+        }
+
+        String where = conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+        String orderBy = sort.field() == TaskField.ID
+                            ? " ORDER BY " + id + direction
+                            : " ORDER BY " + key + direction + ", " + id + direction;
+        this.clauses = where + orderBy;
+    }
+
+    String clauses() {
+        return clauses;
+    }
+
+    Map<String, Object> parameters() {
+        return parameters;
+    }
+
+    private void addBound(List<String> conditions, String name, String operator, String parameter, Object value) {
+        if (value != null) {
+            conditions.add(name + " " + operator + " :" + parameter);
+            parameters.put(parameter, value);
+        }
+    }
+
+    private static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,28 @@
+package com.mendes.task_manager.repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import com.mendes.task_manager.dto.TaskDTO;
+import com.mendes.task_manager.dto.TaskField;
+import com.mendes.task_manager.dto.TaskFilter;
+import com.mendes.task_manager.dto.TaskSort;
+
+/**
+ * Reads that select only the requested columns and map them straight into {@link TaskDTO},
+ * without hydrating {@code Task} entities.
+ */
+public interface TaskProjectionRepository {
+
+    List<TaskDTO> findProjectedPage(Long afterId, int limit, Set<TaskField> fields);
+
+    /**
+     * Page of the tasks matching {@code filter} in {@code sort} order, after the task with {@code afterId}
+     * whose sort key is {@code afterValue}; a null {@code afterId} reads the first page.
+     */
+    List<TaskDTO> findProjectedPage(TaskFilter filter, TaskSort sort, Long afterId, Object afterValue, int limit,
+                                    Set<TaskField> fields);
+
+    Optional<TaskDTO> findProjectedById(Long id, Set<TaskField> fields);
+}
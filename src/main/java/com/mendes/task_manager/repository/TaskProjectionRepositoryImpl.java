@@ -0,0 +1,75 @@
+package com.mendes.task_manager.repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.hibernate.jpa.HibernateHints;
+
+import com.mendes.task_manager.dto.TaskDTO;
+import com.mendes.task_manager.dto.TaskField;
+import com.mendes.task_manager.dto.TaskFilter;
+import com.mendes.task_manager.dto.TaskSort;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+
+public class TaskProjectionRepositoryImpl implements TaskProjectionRepository {
+
+    @PersistenceContext
+    EntityManager entityManager;
+
+    @Override
+    public List<TaskDTO> findProjectedPage(Long afterId, int limit, Set<TaskField> fields) {
+        List<TaskField> columns = List.copyOf(fields);
+        return query(columns, "where t.id > :id order by t.id", afterId)
+                    .setMaxResults(limit)
+                    .getResultList().stream()
+                    .map(tuple -> toTaskDTO(tuple, columns))
+                    .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<TaskDTO> findProjectedPage(TaskFilter filter, TaskSort sort, Long afterId, Object afterValue, int limit,
+                                            Set<TaskField> fields) {
+        List<TaskField> columns = List.copyOf(fields);
+        TaskPageQuery pageQuery = new TaskPageQuery(filter, sort, afterId, afterValue, TaskField::path);
+        TypedQuery<Tuple> query = entityManager.createQuery("select " + select(columns) + " from Task t" + pageQuery.clauses(), Tuple.class)
+                                    .setHint(HibernateHints.HINT_READ_ONLY, true)
+                                    .setMaxResults(limit);
+        pageQuery.parameters().forEach(query::setParameter);
+        return query.getResultList().stream()
+                    .map(tuple -> toTaskDTO(tuple, columns))
+                    .collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<TaskDTO> findProjectedById(Long id, Set<TaskField> fields) {
+        List<TaskField> columns = List.copyOf(fields);
+        return query(columns, "where t.id = :id", id)
+                    .getResultList().stream()
+                    .findFirst()
+                    .map(tuple -> toTaskDTO(tuple, columns));
+    }
+
+    private TypedQuery<Tuple> query(List<TaskField> columns, String condition, Long id) {
+        return entityManager.createQuery("select " + select(columns) + " from Task t " + condition, Tuple.class)
+                    .setParameter("id", id)
+                    .setHint(HibernateHints.HINT_READ_ONLY, true);
+    }
+
+    private String select(List<TaskField> columns) {
+        return columns.stream().map(TaskField::path).collect(Collectors.joining(", "));
+    }
+
+    private TaskDTO toTaskDTO(Tuple tuple, List<TaskField> columns) {
+        TaskDTO dto = new TaskDTO();
+        for (int i = 0; i < columns.size(); i++) {
+            columns.get(i).set(dto, tuple.get(i));
+        }
+        return dto;
+    }
+}
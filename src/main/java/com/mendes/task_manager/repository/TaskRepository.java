@@ -1,11 +1,65 @@
 package com.mendes.task_manager.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.mendes.task_manager.model.Task;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
-    
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskProjectionRepository {
+
+    List<Task> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @Query("select t from Task t order by t.id")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Task> streamAllOrderedById();
+
+    @Query("select new com.mendes.task_manager.repository.TaskCollectionVersion(count(t), max(t.id), max(t.lastUpdatedAt)) "
+         + "from Task t")
+    TaskCollectionVersion findCollectionVersion();
+
+    @Query("select t.id from Task t where t.id in :ids")
+    Set<Long> findExistingIds(Collection<Long> ids);
+
+    /**
+     * Updates the task and reads the new row back in the same statement through H2's
+     * {@code FINAL TABLE} delta table. An empty result means no row was affected.
+     */
+    @Transactional
+    @Query(value = "SELECT * FROM FINAL TABLE (UPDATE tb_tasks SET task_title = :title, task_description = :description, "
+                 + "updated_at = :lastUpdatedAt WHERE task_id = :id)", nativeQuery = true)
+    Optional<Task> updateTask(Long id, String title, String description, LocalDateTime lastUpdatedAt);
+
+    /**
+     * Same as {@link #updateTask} but only applies while `updated_at` is one of {@code expectedVersions},
+     * so a conditional update cannot race with a concurrent writer.
+     */
+    @Transactional
+    @Query(value = "SELECT * FROM FINAL TABLE (UPDATE tb_tasks SET task_title = :title, task_description = :description, "
+                 + "updated_at = :lastUpdatedAt WHERE task_id = :id AND updated_at IN (:expectedVersions))", nativeQuery = true)
+    Optional<Task> updateTaskIfVersion(Long id, String title, String description, LocalDateTime lastUpdatedAt,
+                                        Collection<LocalDateTime> expectedVersions);
+
+    @Transactional
+    @Modifying
+    @Query("delete from Task t where t.id = :id")
+    int deleteTaskById(Long id);
 }
@@ -0,0 +1,49 @@
+package com.mendes.task_manager.repository.replica;
+
+import java.util.function.Supplier;
+
+/**
+ * Where the current thread's next connection should come from, read by {@link TaskReplicaRoutingDataSource}.
+ * {@link Target#PRIMARY} always wins: a read nested in a scope pinned to the primary stays on the primary.
+ * As with any routing DataSource, the target only matters when a connection is acquired, so it has to be
+ * set before a transaction (or an open session) takes one.
+ */
+public final class TaskReplicaContext {
+    private static final ThreadLocal<Target> CURRENT = new ThreadLocal<>();
+
+    public enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private TaskReplicaContext() {}
+
+    public static boolean replicaAllowed() {
+        return CURRENT.get() == Target.REPLICA;
+    }
+
+    /** Switches to {@code target} unless the primary is already required, and returns what to {@link #restore}. */
+    public static Target route(Target target) {
+        Target previous = CURRENT.get();
+        if (previous != Target.PRIMARY) {
+            CURRENT.set(target);
+        }
+        return previous;
+    }
+
+    public static void restore(Target previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    public static <T> T onPrimary(Supplier<T> action) {
+        Target previous = route(Target.PRIMARY);
+        try {
+            return action.get();
+        } finally {
+            restore(previous);
+        }
+    }
+}
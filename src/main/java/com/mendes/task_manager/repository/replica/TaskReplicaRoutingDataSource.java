@@ -0,0 +1,119 @@
+package com.mendes.task_manager.repository.replica;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * DataSource in front of a primary pool and one pool per read replica. Connections come from the primary
+ * unless {@link TaskReplicaContext} allows a replica, in which case the healthy replicas take turns.
+ *
+ * <p>A replica that fails to hand out a connection, or a health check, is taken out of rotation and the
+ * connection is taken from the primary instead, so a lost replica costs one failed attempt rather than
+ * failed reads. {@link #checkHealth} puts it back once it answers again.
+ */
+public class TaskReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(TaskReplicaRoutingDataSource.class);
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private interface ConnectionFactory {
+        Connection connect(DataSource dataSource) throws SQLException;
+    }
+
+    private final HikariDataSource primary;
+    private final List<HikariDataSource> replicas;
+    private final Set<Integer> down = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger next = new AtomicInteger();
+
+    public TaskReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicas) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connect(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connect(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection connect(ConnectionFactory factory) throws SQLException {
+        if (TaskReplicaContext.replicaAllowed()) {
+            int replica = nextHealthyReplica();
+            if (replica >= 0) {
+                try {
+                    return factory.connect(replicas.get(replica));
+                } catch (SQLException ex) {
+                    markDown(replica, ex);
+                }
+            }
+        }
+        return factory.connect(primary);
+    }
+
+    private int nextHealthyReplica() {
+        for (int attempt = 0; attempt < replicas.size(); attempt++) {
+            int replica = Math.floorMod(next.getAndIncrement(), replicas.size());
+            if (!down.contains(replica)) {
+                return replica;
+            }
+        }
+        return -1;
+    }
+
+    /** Probes every replica, taking out of rotation those that do not answer and putting back those that do again. */
+    public void checkHealth() {
+        for (int replica = 0; replica < replicas.size(); replica++) {
+            try (Connection connection = replicas.get(replica).getConnection()) {
+                if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    throw new SQLException("The connection did not validate within " + VALIDATION_TIMEOUT_SECONDS + " seconds.");
+                }
+                if (down.remove(replica)) {
+                    logger.info("Replica {} answers again and is back in rotation.", replicas.get(replica).getPoolName());
+                }
+            } catch (SQLException ex) {
+                markDown(replica, ex);
+            }
+        }
+    }
+
+    private void markDown(int replica, SQLException ex) {
+        if (down.add(replica)) {
+            logger.warn("Replica {} is taken out of rotation, its reads go to the other replicas or the primary: {}",
+                            replicas.get(replica).getPoolName(), ex.getMessage());
+        }
+    }
+
+    public int healthyReplicas() {
+        return replicas.size() - down.size();
+    }
+
+    public DataSource primary() {
+        return primary;
+    }
+
+    public List<? extends DataSource> replicas() {
+        return replicas;
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(HikariDataSource::close);
+        primary.close();
+    }
+}
@@ -0,0 +1,33 @@
+package com.mendes.task_manager.repository.sharding;
+
+import java.util.function.Supplier;
+
+/**
+ * The shard the current thread works on, read by {@link TaskShardRoutingDataSource} when a connection
+ * is acquired. A transaction keeps the connection it started with, so the shard has to be chosen before
+ * the transaction begins and cannot be switched inside it.
+ */
+public final class TaskShardContext {
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private TaskShardContext() {}
+
+    /** The selected shard, or null when none was, in which case the first shard is used. */
+    public static Integer current() {
+        return CURRENT.get();
+    }
+
+    public static <T> T call(int shard, Supplier<T> action) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.mendes.task_manager.repository.sharding;
+
+/**
+ * Maps a task id to the shard that stores it. With {@link Strategy#HASH} consecutive ids are spread
+ * round-robin, so every shard takes a share of new writes; with {@link Strategy#RANGE} each shard owns
+ * {@code rangeSize} consecutive ids and the last one everything above, which keeps id ranges local.
+ */
+public record TaskShardRouter(int shards, Strategy strategy, long rangeSize) {
+
+    public enum Strategy {
+        HASH, RANGE
+    }
+
+    public TaskShardRouter {
+        if (shards < 1) {
+            throw new IllegalArgumentException("At least one shard is required.");
+        }
+        if (strategy == Strategy.RANGE && rangeSize < 1) {
+            throw new IllegalArgumentException("The shard range size must be positive.");
+        }
+    }
+
+    public int shardOf(long id) {
+        return switch (strategy) {
+            case HASH -> Math.floorMod(id, shards);
+            case RANGE -> (int) Math.max(0, Math.min(shards - 1, (id - 1) / rangeSize));
+        };
+    }
+}
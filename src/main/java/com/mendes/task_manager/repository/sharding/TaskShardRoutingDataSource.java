@@ -0,0 +1,39 @@
+package com.mendes.task_manager.repository.sharding;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Single DataSource in front of one connection pool per shard. JPA, {@code JdbcTemplate} and the
+ * transaction manager all use it unchanged; each connection comes from the pool of the shard selected in
+ * {@link TaskShardContext}, or of the first shard when none is. The pools are closed with it.
+ */
+public class TaskShardRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+    private final List<HikariDataSource> shards;
+
+    public TaskShardRoutingDataSource(List<HikariDataSource> shards) {
+        this.shards = List.copyOf(shards);
+        Map<Object, Object> targets = new HashMap<>();
+        for (int shard = 0; shard < shards.size(); shard++) {
+            targets.put(shard, shards.get(shard));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(shards.get(0));
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TaskShardContext.current();
+    }
+
+    @Override
+    public void close() {
+        shards.forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,254 @@
+package com.mendes.task_manager.service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import com.mendes.task_manager.dto.TaskBatchResultDTO;
+import com.mendes.task_manager.dto.TaskBatchUpdateRequestDTO;
+import com.mendes.task_manager.dto.TaskDTO;
+import com.mendes.task_manager.dto.TaskFilter;
+import com.mendes.task_manager.dto.TaskPageDTO;
+import com.mendes.task_manager.dto.TaskRequestDTO;
+import com.mendes.task_manager.dto.TaskSort;
+import com.mendes.task_manager.exception.ResponseError;
+import com.mendes.task_manager.exception.TaskNotFoundException;
+import com.mendes.task_manager.exception.TaskVersionMismatchException;
+import com.mendes.task_manager.repository.ReactiveTaskRepository;
+import com.mendes.task_manager.repository.TaskCollectionVersion;
+import com.mendes.task_manager.service.pagination.TaskCursor;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link TaskService} for the {@code reactive} profile. Results and errors
+ * are the same; caching, search, the change feed and write-behind stay with the servlet stack.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTaskService {
+
+    @Autowired
+    ReactiveTaskRepository taskRepository;
+
+    @Autowired
+    TransactionalOperator transactionalOperator;
+
+    @Autowired
+    Validator validator;
+
+    public Mono<TaskPageDTO> findTaskPage(String cursor, int limit) {
+        Long afterId = TaskCursor.decode(cursor);
+        return taskRepository.findByIdGreaterThanOrderByIdAsc(afterId, limit)
+                    .collectList()
+                    .map(dtos -> {
+                        String next = dtos.size() < limit ? null : TaskCursor.encode(dtos.get(dtos.size() - 1).getId());
+                        return new TaskPageDTO(dtos, next);
+                    });
+    }
+
+    /** See {@link TaskService#findTaskPage(TaskFilter, TaskSort, String, int, Set)}; every field is read. */
+    public Mono<TaskPageDTO> findTaskPage(TaskFilter filter, TaskSort sort, String cursor, int limit) {
+        TaskCursor.Position after = TaskCursor.decode(cursor, sort);
+        return taskRepository.findPage(filter, sort, after == null ? null : after.id(), after == null ? null : after.value(), limit)
+                    .collectList()
+                    .map(dtos -> {
+                        String next = dtos.size() < limit ? null : TaskCursor.encode(sort, dtos.get(dtos.size() - 1));
+                        return new TaskPageDTO(dtos, next);
+                    });
+    }
+
+    public Mono<TaskCollectionVersion> findCollectionVersion() {
+        return taskRepository.findCollectionVersion();
+    }
+
+    public Flux<TaskDTO> streamAllTasks() {
+        return taskRepository.findAllOrderedById();
+    }
+
+    public Mono<TaskDTO> findTaskById(Long id) {
+        return taskRepository.findById(id)
+                    .switchIfEmpty(Mono.error(() -> new TaskNotFoundException(id)));
+    }
+
+    public Mono<TaskDTO> saveTask(TaskRequestDTO taskRequestDTO) {
+        return taskRepository.insert(taskRequestDTO.getTitle(), taskRequestDTO.getDescription(), now());
+    }
+
+    public Mono<TaskDTO> updateTask(Long id, TaskRequestDTO taskRequestDTO) {
+        return taskRepository.updateTask(id, taskRequestDTO.getTitle(), taskRequestDTO.getDescription(), now())
+                    .switchIfEmpty(Mono.error(() -> new TaskNotFoundException(id)));
+    }
+
+    /** See {@link TaskService#updateTask(Long, TaskRequestDTO, List)}. */
+    public Mono<TaskDTO> updateTask(Long id, TaskRequestDTO taskRequestDTO, List<LocalDateTime> expectedVersions) {
+        Mono<TaskDTO> updatedTask = expectedVersions.isEmpty()
+                                    ? Mono.empty()
+                                    : taskRepository.updateTaskIfVersion(id, taskRequestDTO.getTitle(),
+                                                    taskRequestDTO.getDescription(), now(), expectedVersions);
+        return updatedTask.switchIfEmpty(taskRepository.existsById(id)
+                    .flatMap(exists -> Mono.error(exists
+                                                    ? new TaskVersionMismatchException(id)
+                                                    : new TaskNotFoundException(id))));
+    }
+
+    public Mono<Void> deleteTaskById(Long id) {
+        return taskRepository.deleteTaskById(id).then();
+    }
+
+    public Mono<List<TaskBatchResultDTO>> saveTasks(List<TaskRequestDTO> taskRequestDTOs) {
+        TaskBatchResultDTO[] results = new TaskBatchResultDTO[taskRequestDTOs.size()];
+
+        return forEachChunk(taskRequestDTOs.size(), (from, to) -> {
+            List<Integer> indexes = new ArrayList<>();
+            for (int index = from; index < to; index++) {
+                ResponseError error = validate(taskRequestDTOs.get(index));
+                if (error != null) {
+                    results[index] = TaskBatchResultDTO.failure(index, null, error);
+                    continue;
+                }
+                indexes.add(index);
+            }
+
+            LocalDateTime now = now();
+            return runChunk(indexes, null, results, Flux.fromIterable(indexes)
+                        .concatMap(index -> taskRepository.insert(taskRequestDTOs.get(index).getTitle(),
+                                                                taskRequestDTOs.get(index).getDescription(), now)
+                                        .doOnNext(task -> results[index] = TaskBatchResultDTO.success(index, HttpStatus.CREATED, task)))
+                        .then());
+        }).then(Mono.fromSupplier(() -> Arrays.asList(results)));
+    }
+
+    public Mono<List<TaskBatchResultDTO>> updateTasks(List<TaskBatchUpdateRequestDTO> taskRequestDTOs) {
+        TaskBatchResultDTO[] results = new TaskBatchResultDTO[taskRequestDTOs.size()];
+
+        return forEachChunk(taskRequestDTOs.size(), (from, to) -> {
+            List<Integer> indexes = new ArrayList<>();
+            for (int index = from; index < to; index++) {
+                TaskBatchUpdateRequestDTO taskRequestDTO = taskRequestDTOs.get(index);
+                ResponseError error = validate(taskRequestDTO);
+                if (error != null) {
+                    Long id = taskRequestDTO == null ? null : taskRequestDTO.getId();
+                    results[index] = TaskBatchResultDTO.failure(index, id, error);
+                    continue;
+                }
+                indexes.add(index);
+            }
+
+            List<Long> ids = indexes.stream().map(index -> taskRequestDTOs.get(index).getId()).toList();
+            LocalDateTime now = now();
+            return runChunk(indexes, ids, results, Flux.fromIterable(indexes)
+                        .concatMap(index -> {
+                            TaskBatchUpdateRequestDTO taskRequestDTO = taskRequestDTOs.get(index);
+                            return taskRepository.updateTask(taskRequestDTO.getId(), taskRequestDTO.getTitle(),
+                                                                taskRequestDTO.getDescription(), now)
+                                        .map(task -> TaskBatchResultDTO.success(index, HttpStatus.OK, task))
+                                        .defaultIfEmpty(notFound(index, taskRequestDTO.getId()))
+                                        .doOnNext(result -> results[index] = result);
+                        })
+                        .then());
+        }).then(Mono.fromSupplier(() -> Arrays.asList(results)));
+    }
+
+    public Mono<List<TaskBatchResultDTO>> deleteTasks(List<Long> ids) {
+        TaskBatchResultDTO[] results = new TaskBatchResultDTO[ids.size()];
+
+        return forEachChunk(ids.size(), (from, to) -> {
+            List<Integer> indexes = new ArrayList<>();
+            for (int index = from; index < to; index++) {
+                Long id = ids.get(index);
+                if (id == null || id <= 0) {
+                    results[index] = TaskBatchResultDTO.failure(index, id,
+                                        ResponseError.of("ID must be a positive Integer.", HttpStatus.BAD_REQUEST));
+                    continue;
+                }
+                indexes.add(index);
+            }
+
+            List<Long> chunkIds = indexes.stream().map(ids::get).toList();
+            return runChunk(indexes, chunkIds, results, taskRepository.findExistingIds(chunkIds)
+                        .collect(Collectors.toCollection(HashSet::new))
+                        .flatMap(existingIds -> (existingIds.isEmpty() ? Mono.just(0L) : taskRepository.deleteAllById(existingIds))
+                                    .doOnNext(deleted -> recordDeleted(indexes, ids, existingIds, results)))
+                        .then());
+        }).then(Mono.fromSupplier(() -> Arrays.asList(results)));
+    }
+
+    private void recordDeleted(List<Integer> indexes, List<Long> ids, Set<Long> existingIds, TaskBatchResultDTO[] results) {
+        for (int index : indexes) {
+            Long id = ids.get(index);
+            results[index] = existingIds.contains(id)
+                                ? TaskBatchResultDTO.success(index, HttpStatus.NO_CONTENT, id)
+                                : notFound(index, id);
+        }
+    }
+
+    private interface ChunkAction {
+        Mono<Void> apply(int from, int to);
+    }
+
+    /** Chunks run one after the other, like {@link TaskService#BATCH_CHUNK_SIZE} chunks on the servlet stack. */
+    private Mono<Void> forEachChunk(int size, ChunkAction action) {
+        return Flux.range(0, (size + TaskService.BATCH_CHUNK_SIZE - 1) / TaskService.BATCH_CHUNK_SIZE)
+                    .concatMap(chunk -> {
+                        int from = chunk * TaskService.BATCH_CHUNK_SIZE;
+                        return action.apply(from, Math.min(from + TaskService.BATCH_CHUNK_SIZE, size));
+                    })
+                    .then();
+    }
+
+    /** Runs one chunk in its own transaction; see {@code TaskService.runChunk} for how failures are reported. */
+    private Mono<Void> runChunk(List<Integer> indexes, List<Long> ids, TaskBatchResultDTO[] results, Mono<Void> chunk) {
+        if (indexes.isEmpty()) {
+            return Mono.empty();
+        }
+        return chunk.as(transactionalOperator::transactional)
+                    .onErrorResume(RuntimeException.class, ex -> {
+                        ResponseError error = ResponseError.of(ex.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+                        for (int i = 0; i < indexes.size(); i++) {
+                            int index = indexes.get(i);
+                            results[index] = TaskBatchResultDTO.failure(index, ids == null ? null : ids.get(i), error);
+                        }
+                        return Mono.empty();
+                    });
+    }
+
+    private <T> ResponseError validate(T taskRequestDTO) {
+        if (taskRequestDTO == null) {
+            return ResponseError.of("The batch item cannot be empty.", HttpStatus.BAD_REQUEST);
+        }
+        Set<ConstraintViolation<T>> violations = validator.validate(taskRequestDTO);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        List<String> errorMessages = violations.stream()
+                                        .map(ConstraintViolation::getMessage)
+                                        .sorted()
+                                        .collect(Collectors.toList());
+        return ResponseError.of(errorMessages, HttpStatus.BAD_REQUEST);
+    }
+
+    private TaskBatchResultDTO notFound(int index, Long id) {
+        return TaskBatchResultDTO.failure(index, id,
+                    ResponseError.of(new TaskNotFoundException(id).getMessage(), HttpStatus.NOT_FOUND));
+    }
+
+    private static LocalDateTime now() {
+        // Same precision as AuditingConfig, so ETags built from the returned task match the stored row.
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+}
@@ -1,54 +1,610 @@
 package com.mendes.task_manager.service;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.mendes.task_manager.configuration.cache.CacheConfig;
+import com.mendes.task_manager.configuration.metrics.MetricsConfig;
+import com.mendes.task_manager.dto.TaskBatchResultDTO;
+import com.mendes.task_manager.dto.TaskBatchUpdateRequestDTO;
 import com.mendes.task_manager.dto.TaskDTO;
+import com.mendes.task_manager.dto.TaskField;
+import com.mendes.task_manager.dto.TaskFilter;
+import com.mendes.task_manager.dto.TaskPageDTO;
 import com.mendes.task_manager.dto.TaskRequestDTO;
+import com.mendes.task_manager.dto.TaskSearchPageDTO;
+import com.mendes.task_manager.dto.TaskSort;
 import com.mendes.task_manager.dto.mapper.TaskMapper;
+import com.mendes.task_manager.exception.ResponseError;
 import com.mendes.task_manager.exception.TaskNotFoundException;
+import com.mendes.task_manager.exception.TaskVersionMismatchException;
 import com.mendes.task_manager.model.Task;
+import com.mendes.task_manager.repository.TaskCollectionVersion;
 import com.mendes.task_manager.repository.TaskRepository;
+import com.mendes.task_manager.repository.replica.TaskReplicaContext;
+import com.mendes.task_manager.service.event.TaskChangeEvent;
+import com.mendes.task_manager.service.pagination.TaskCursor;
+import com.mendes.task_manager.service.replica.ReplicaRead;
+import com.mendes.task_manager.service.search.TaskSearchIndex;
+import com.mendes.task_manager.service.sharding.TaskShards;
+import com.mendes.task_manager.service.singleflight.SingleFlight;
+import com.mendes.task_manager.service.writebehind.TaskWriteBehind;
+
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 
 @Service
 public class TaskService {
+    /** Rows written per transaction by the batch operations; a multiple of the JDBC batch size. */
+    public static final int BATCH_CHUNK_SIZE = 500;
+    /** Rows read per page by {@link #streamAllTasks} when the tasks are spread over several shards. */
+    public static final int STREAM_PAGE_SIZE = 500;
+
+    private static final Comparator<Task> TASK_ID_ORDER = Comparator.comparing(Task::getId);
+    private static final Comparator<TaskDTO> DTO_ID_ORDER = Comparator.comparing(TaskDTO::getId);
+
     @Autowired
     TaskMapper taskMapper;
 
     @Autowired
     TaskRepository taskRepository;
 
+    @PersistenceContext
+    EntityManager entityManager;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    Validator validator;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    @Autowired
+    ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    TaskSearchIndex taskSearchIndex;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    TaskWriteBehind taskWriteBehind;
+
+    @Autowired
+    TaskShards taskShards;
+
+    @Value("${task-manager.single-flight.enabled:true}")
+    boolean singleFlight = true;
+
+    /**
+     * Concurrent {@link #findTaskById} calls for the same id share one query and mapping when the task cache
+     * is off; with the cache on, its own load of the id does that.
+     */
+    private final SingleFlight<Long, TaskDTO> taskLoads = new SingleFlight<>();
+
+    /** One result-size summary per operation, registered by its first read. */
+    private final Map<String, DistributionSummary> resultSizes = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void registerMeters() {
+        FunctionCounter.builder(MetricsConfig.TASK_COALESCED_LOADS, taskLoads, SingleFlight::coalesced)
+                .description("findTaskById calls answered by a load already in flight for the same id")
+                .register(meterRegistry);
+    }
+
+    @Timed(value = MetricsConfig.TASK_SERVICE_TIMER, extraTags = {"operation", "findAll"})
+    @ReplicaRead
     public List<TaskDTO> findAllTasks() {
-        List<Task> foundTasks = taskRepository.findAll();
+        List<Task> foundTasks = taskShards.isEnabled()
+                                    ? TaskShards.merge(taskShards.onEachShard(() -> taskRepository.findAll(Sort.by("id"))),
+                                                        TASK_ID_ORDER, Integer.MAX_VALUE)
+                                    : taskRepository.findAll();
+        recordResultSize("findAll", foundTasks.size());
         return foundTasks
                 .stream()
                 .map(task -> taskMapper.toTaskDTO(task))
                 .collect(Collectors.toList());
     };
 
+    @Timed(value = MetricsConfig.TASK_SERVICE_TIMER, extraTags = {"operation", "findPage"})
+    @ReplicaRead
+    public TaskPageDTO findTaskPage(String cursor, int limit) {
+        Long afterId = TaskCursor.decode(cursor);
+        List<Task> tasks = TaskShards.merge(taskShards.onEachShard(() ->
+                                                taskRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit))),
+                                            TASK_ID_ORDER, limit);
+        List<TaskDTO> dtos = tasks.stream()
+                                        .map(task -> taskMapper.toTaskDTO(task))
+                                        .collect(Collectors.toList());
+
+        recordResultSize("findPage", dtos.size());
+        return toPage(dtos, limit);
+    }
+
+    /** Like {@link #findTaskPage(String, int)} but only selects {@code fields}, which must include the id. */
+    @Timed(value = MetricsConfig.TASK_SERVICE_TIMER, extraTags = {"operation", "findPageProjected"})
+    @ReplicaRead
+    public TaskPageDTO findTaskPage(String cursor, int limit, Set<TaskField> fields) {
+        Long afterId = TaskCursor.decode(cursor);
+        List<TaskDTO> dtos = TaskShards.merge(taskShards.onEachShard(() -> taskRepository.findProjectedPage(afterId, limit, fields)),
+                                                DTO_ID_ORDER, limit);
+
+        recordResultSize("findPageProjected", dtos.size());
+        return toPage(dtos, limit);
+    }
+
+    /**
+     * Page of the tasks matching {@code filter} in {@code sort} order; {@code fields} may be null for every field.
+     * The cursor carries the sort key of the last task, so each page is a single index range scan that starts
+     * where the previous one stopped. The sort key is always selected to build it, then trimmed if not requested.
+     */
+    @Timed(value = MetricsConfig.TASK_SERVICE_TIMER, extraTags = {"operation", "findPageFiltered"})
+    @ReplicaRead
+    public TaskPageDTO findTaskPage(TaskFilter filter, TaskSort sort, String cursor, int limit, Set<TaskField> fields) {
+        TaskCursor.Position after = TaskCursor.decode(cursor, sort);
+        Set<TaskField> columns = fields == null ? EnumSet.allOf(TaskField.class) : EnumSet.copyOf(fields);
+        columns.add(sort.field());
+        List<TaskDTO> dtos = TaskShards.merge(taskShards.onEachShard(() ->
+                                                taskRepository.findProjectedPage(filter, sort, after == null ? null : after.id(),
+                                                                                    after == null ? null : after.value(), limit, columns)),
+                                                sort.comparator(), limit);
+
+        recordResultSize("findPageFiltered", dtos.size());
+        String next = dtos.size() < limit ? null : TaskCursor.encode(sort, dtos.get(dtos.size() - 1));
+        if (fields != null && !fields.contains(sort.field())) {
+            dtos = dtos.stream().map(dto -> TaskField.project(dto, fields)).collect(Collectors.toList());
+        }
+        return new TaskPageDTO(dtos, next);
+    }
+
+    private TaskPageDTO toPage(List<TaskDTO> dtos, int limit) {
+        String next = dtos.size() < limit ? null : TaskCursor.encode(dtos.get(dtos.size() - 1).getId());
+        return new TaskPageDTO(dtos, next);
+    }
+
+    @Timed(value = MetricsConfig.TASK_SERVICE_TIMER, extraTags = {"operation", "collectionVersion"})
+    @ReplicaRead
+    public TaskCollectionVersion findCollectionVersion() {
+        return taskShards.onEachShard(taskRepository::findCollectionVersion)
+                            .stream()
+                            .reduce(TaskCollectionVersion::merge)
+                            .orElseThrow();
+    }
+
+    /**
+     * Pushes every task to {@code consumer} in id order while the underlying cursor is still open.
+     * Each entity is detached once mapped, so the persistence context never grows with the table.
+     * Across shards, which a single cursor cannot span, the tasks are read as merged keyset pages instead.
+     */
+    @Timed(value = MetricsConfig.TASK_SERVICE_TIMER, extraTags = {"operation", "stream"})
+    @ReplicaRead
+    public void streamAllTasks(Consumer<TaskDTO> consumer) {
+        if (taskShards.count() > 1) {
+            String cursor = null;
+            do {
+                TaskPageDTO page = findTaskPage(cursor, STREAM_PAGE_SIZE);
+                page.tasks().forEach(consumer);
+                cursor = page.next();
+            } while (cursor != null);
+            return;
+        }
+        taskShards.onShard(0, () -> transactionTemplate.execute(status -> {
+            try (Stream<Task> tasks = taskRepository.streamAllOrderedById()) {
+                tasks.forEach(task -> {
+                    consumer.accept(taskMapper.toTaskDTO(task));
+                    entityManager.detach(task);
+                });
+            }
+            return null;
+        }));
+    }
+
+    @Timed(value = MetricsConfig.TASK_SERVICE_TIMER, extraTags = {"operation", "search"})
+    @ReplicaRead
+    public TaskSearchPageDTO searchTasks(String query, int page, int size) {
+        int offset = (int) Math.min(Integer.MAX_VALUE, (long) page * size);
+        TaskSearchIndex.Hits hits = taskSearchIndex.search(query, offset, size);
+        Map<Long, Task> foundTasks = taskShards.findAllById(hits.ids(), taskRepository::findAllById)
+                                        .stream()
+                                        .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        // Keep the index ranking; ids removed since the search ran are skipped.
+        List<TaskDTO> dtos = hits.ids()
+                                .stream()
+                                .map(foundTasks::get)
+                                .filter(task -> task != null)
+                                .map(task -> taskMapper.toTaskDTO(task))
+                                .collect(Collectors.toList());
+        return new TaskSearchPageDTO(dtos, hits.total());
+    }
+
+    /**
+     * Always read from the primary: it fills the task cache, which a lagging replica would leave stale until the next change.
+     * The load runs inside the cache's own load of the id ({@code sync}), so callers missing the same id wait for it and an
+     * update or eviction of the id waits until it is stored, then replaces it, instead of being overwritten by an older row.
+     */
+    @Timed(value = MetricsConfig.TASK_SERVICE_TIMER, extraTags = {"operation", "find"})
+    @Cacheable(cacheNames = CacheConfig.TASKS_CACHE, key = "#id", sync = true)
     public TaskDTO findTaskById(Long id) {
-        Task targetTask = taskRepository.findById(id)
+        return singleFlight ? taskLoads.load(id, () -> loadTaskById(id)) : loadTaskById(id);
+    }
+
+    private TaskDTO loadTaskById(Long id) {
+        drainWriteBehind();
+        Task targetTask = taskShards.onShardOf(id, () -> taskRepository.findById(id))
                                         .orElseThrow(() -> new TaskNotFoundException(id));
         return taskMapper.toTaskDTO(targetTask);
     }
 
+    /**
+     * Without the task cache, a load by id that started before a change may have read the old row; once the
+     * change is committed, later callers must not be handed its result.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChange(TaskChangeEvent event) {
+        taskLoads.forget(event.id());
+    }
+
+    /**
+     * Reads {@code fields} of a task, plus `lastUpdatedAt` which its ETag is built from. A cached full
+     * copy is returned as is; otherwise only those columns are selected. Callers trim the result with
+     * {@link TaskField#project} and must not modify it, since it may be the cached instance.
+     */
+    @Timed(value = MetricsConfig.TASK_SERVICE_TIMER, extraTags = {"operation", "findProjected"})
+    @ReplicaRead
+    public TaskDTO findTaskById(Long id, Set<TaskField> fields) {
+        Cache cache = cacheManager.getCache(CacheConfig.TASKS_CACHE);
+        TaskDTO cachedTask = cache == null ? null : cache.get(id, TaskDTO.class);
+        if (cachedTask != null) {
+            return cachedTask;
+        }
+        drainWriteBehind();
+        Set<TaskField> columns = EnumSet.of(TaskField.LAST_UPDATED_AT);
+        columns.addAll(fields);
+        return taskShards.onShardOf(id, () -> taskRepository.findProjectedById(id, columns))
+                                .orElseThrow(() -> new TaskNotFoundException(id));
+    }
+
+    @Timed(value = MetricsConfig.TASK_SERVICE_TIMER, extraTags = {"operation", "save"})
+    @CachePut(cacheNames = CacheConfig.TASKS_CACHE, key = "#result.id")
     public TaskDTO saveTask(TaskRequestDTO taskRequestDTO) {
-        Task taskRequest = taskMapper.toTaskEntity(taskRequestDTO);
-        return taskMapper.toTaskDTO(taskRepository.save(taskRequest));
+        if (taskWriteBehind.isEnabled()) {
+            TaskDTO journaledTask = taskWriteBehind.enqueue(taskRequestDTO);
+            if (journaledTask != null) {
+                eventPublisher.publishEvent(TaskChangeEvent.created(journaledTask));
+                return journaledTask;
+            }
+        }
+        TaskDTO savedTask;
+        if (taskShards.isEnabled()) {
+            // Hibernate would take the id from the shard the row is written to, so it is reserved up front.
+            savedTask = taskShards.newTask(taskRequestDTO, LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+            taskShards.insert(List.of(savedTask));
+        } else {
+            Task taskRequest = taskMapper.toTaskEntity(taskRequestDTO);
+            savedTask = taskMapper.toTaskDTO(taskRepository.save(taskRequest));
+        }
+        eventPublisher.publishEvent(TaskChangeEvent.created(savedTask));
+        return savedTask;
     }
 
+    @Timed(value = MetricsConfig.TASK_SERVICE_TIMER, extraTags = {"operation", "update"})
+    @CachePut(cacheNames = CacheConfig.TASKS_CACHE, key = "#id")
     public TaskDTO updateTask(Long id, TaskRequestDTO taskRequestDTO) {
-        Task targetTask = taskRepository.findById(id)
+        drainWriteBehind();
+        // The bulk statement bypasses AuditingEntityListener, so `updated_at` is set here.
+        LocalDateTime lastUpdatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        Task updatedTask = taskShards.onShardOf(id, () -> taskRepository.updateTask(id, taskRequestDTO.getTitle(),
+                                                                                        taskRequestDTO.getDescription(), lastUpdatedAt))
                                         .orElseThrow(() -> new TaskNotFoundException(id));
-        targetTask.setTitle(taskRequestDTO.getTitle());
-        targetTask.setDescription(taskRequestDTO.getDescription());
-        return taskMapper.toTaskDTO(taskRepository.save(targetTask));
+        return publishUpdated(updatedTask);
     };
 
+    /**
+     * Applies the update only if the task is still at one of {@code expectedVersions} (its `updated_at`
+     * values taken from an If-Match header). The version check is part of the UPDATE statement itself.
+     */
+    @Timed(value = MetricsConfig.TASK_SERVICE_TIMER, extraTags = {"operation", "updateIfMatch"})
+    @CachePut(cacheNames = CacheConfig.TASKS_CACHE, key = "#id")
+    public TaskDTO updateTask(Long id, TaskRequestDTO taskRequestDTO, List<LocalDateTime> expectedVersions) {
+        drainWriteBehind();
+        LocalDateTime lastUpdatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        Task updatedTask = expectedVersions.isEmpty()
+                            ? null
+                            : taskShards.onShardOf(id, () -> taskRepository.updateTaskIfVersion(id, taskRequestDTO.getTitle(),
+                                                                    taskRequestDTO.getDescription(), lastUpdatedAt, expectedVersions))
+                                            .orElse(null);
+        if (updatedTask == null) {
+            if (!taskShards.onShardOf(id, () -> taskRepository.existsById(id))) {
+                throw new TaskNotFoundException(id);
+            }
+            throw new TaskVersionMismatchException(id);
+        }
+        return publishUpdated(updatedTask);
+    }
+
+    private TaskDTO publishUpdated(Task updatedTask) {
+        TaskDTO updatedTaskDTO = taskMapper.toTaskDTO(updatedTask);
+        eventPublisher.publishEvent(TaskChangeEvent.updated(updatedTaskDTO));
+        return updatedTaskDTO;
+    }
+
+    @Timed(value = MetricsConfig.TASK_SERVICE_TIMER, extraTags = {"operation", "delete"})
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, key = "#id")
     public void deleteTaskById(Long id) {
-        taskRepository.deleteById(id);
+        drainWriteBehind();
+        if (taskShards.onShardOf(id, () -> taskRepository.deleteTaskById(id)) > 0) {
+            eventPublisher.publishEvent(TaskChangeEvent.deleted(id));
+        }
     };
+
+    @Timed(value = MetricsConfig.TASK_SERVICE_TIMER, extraTags = {"operation", "saveBatch"})
+    public List<TaskBatchResultDTO> saveTasks(List<TaskRequestDTO> taskRequestDTOs) {
+        TaskBatchResultDTO[] results = new TaskBatchResultDTO[taskRequestDTOs.size()];
+        List<Integer> validIndexes = new ArrayList<>();
+        for (int index = 0; index < taskRequestDTOs.size(); index++) {
+            ResponseError error = validate(taskRequestDTOs.get(index));
+            if (error != null) {
+                results[index] = TaskBatchResultDTO.failure(index, null, error);
+                continue;
+            }
+            validIndexes.add(index);
+        }
+
+        if (taskShards.isEnabled()) {
+            // As in saveTask, ids are reserved first so that each chunk can be written on the shard that owns it.
+            LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+            Map<Integer, TaskDTO> newTasks = new HashMap<>();
+            validIndexes.forEach(index -> newTasks.put(index, taskShards.newTask(taskRequestDTOs.get(index), now)));
+            forEachChunk(validIndexes, index -> newTasks.get(index).getId(), indexes ->
+                runChunk(indexes, null, results, () -> {
+                    taskShards.insert(indexes.stream().map(newTasks::get).toList());
+                    for (int index : indexes) {
+                        results[index] = TaskBatchResultDTO.success(index, HttpStatus.CREATED, newTasks.get(index));
+                    }
+                }));
+        } else {
+            forEachChunk(validIndexes, null, indexes -> {
+                List<Task> tasks = indexes.stream().map(index -> taskMapper.toTaskEntity(taskRequestDTOs.get(index))).toList();
+                runChunk(indexes, null, results, () -> {
+                    List<Task> savedTasks = taskRepository.saveAll(tasks);
+                    taskRepository.flush();
+                    for (int i = 0; i < savedTasks.size(); i++) {
+                        int index = indexes.get(i);
+                        results[index] = TaskBatchResultDTO.success(index, HttpStatus.CREATED, taskMapper.toTaskDTO(savedTasks.get(i)));
+                    }
+                    entityManager.clear();
+                });
+            });
+        }
+
+        cacheSuccessfulResults(results);
+        publishSuccessfulResults(results, TaskChangeEvent::created);
+        return Arrays.asList(results);
+    }
+
+    @Timed(value = MetricsConfig.TASK_SERVICE_TIMER, extraTags = {"operation", "updateBatch"})
+    public List<TaskBatchResultDTO> updateTasks(List<TaskBatchUpdateRequestDTO> taskRequestDTOs) {
+        drainWriteBehind();
+        TaskBatchResultDTO[] results = new TaskBatchResultDTO[taskRequestDTOs.size()];
+        List<Integer> validIndexes = new ArrayList<>();
+        for (int index = 0; index < taskRequestDTOs.size(); index++) {
+            TaskBatchUpdateRequestDTO taskRequestDTO = taskRequestDTOs.get(index);
+            ResponseError error = validate(taskRequestDTO);
+            if (error != null) {
+                Long id = taskRequestDTO == null ? null : taskRequestDTO.getId();
+                results[index] = TaskBatchResultDTO.failure(index, id, error);
+                continue;
+            }
+            validIndexes.add(index);
+        }
+
+        forEachChunk(validIndexes, index -> taskRequestDTOs.get(index).getId(), indexes -> {
+            List<Long> ids = indexes.stream().map(index -> taskRequestDTOs.get(index).getId()).toList();
+            runChunk(indexes, ids, results, () -> {
+                Map<Long, Task> foundTasks = taskRepository.findAllById(ids)
+                                                .stream()
+                                                .collect(Collectors.toMap(Task::getId, Function.identity()));
+                List<Integer> updatedIndexes = new ArrayList<>();
+                for (int index : indexes) {
+                    TaskBatchUpdateRequestDTO taskRequestDTO = taskRequestDTOs.get(index);
+                    Task targetTask = foundTasks.get(taskRequestDTO.getId());
+                    if (targetTask == null) {
+                        results[index] = notFound(index, taskRequestDTO.getId());
+                        continue;
+                    }
+                    targetTask.setTitle(taskRequestDTO.getTitle());
+                    targetTask.setDescription(taskRequestDTO.getDescription());
+                    updatedIndexes.add(index);
+                }
+                taskRepository.flush();
+                for (int index : updatedIndexes) {
+                    Task updatedTask = foundTasks.get(taskRequestDTOs.get(index).getId());
+                    results[index] = TaskBatchResultDTO.success(index, HttpStatus.OK, taskMapper.toTaskDTO(updatedTask));
+                }
+                entityManager.clear();
+            });
+        });
+
+        cacheSuccessfulResults(results);
+        publishSuccessfulResults(results, TaskChangeEvent::updated);
+        return Arrays.asList(results);
+    }
+
+    @Timed(value = MetricsConfig.TASK_SERVICE_TIMER, extraTags = {"operation", "deleteBatch"})
+    public List<TaskBatchResultDTO> deleteTasks(List<Long> ids) {
+        drainWriteBehind();
+        TaskBatchResultDTO[] results = new TaskBatchResultDTO[ids.size()];
+        List<Integer> validIndexes = new ArrayList<>();
+        for (int index = 0; index < ids.size(); index++) {
+            Long id = ids.get(index);
+            if (id == null || id <= 0) {
+                results[index] = TaskBatchResultDTO.failure(index, id,
+                                    ResponseError.of("ID must be a positive Integer.", HttpStatus.BAD_REQUEST));
+                continue;
+            }
+            validIndexes.add(index);
+        }
+
+        forEachChunk(validIndexes, ids::get, indexes -> {
+            List<Long> chunkIds = indexes.stream().map(ids::get).toList();
+            runChunk(indexes, chunkIds, results, () -> {
+                Set<Long> existingIds = taskRepository.findExistingIds(chunkIds);
+                taskRepository.deleteAllByIdInBatch(existingIds);
+                for (int index : indexes) {
+                    Long id = ids.get(index);
+                    results[index] = existingIds.contains(id)
+                                        ? TaskBatchResultDTO.success(index, HttpStatus.NO_CONTENT, id)
+                                        : notFound(index, id);
+                }
+            });
+        });
+
+        Cache cache = cacheManager.getCache(CacheConfig.TASKS_CACHE);
+        for (TaskBatchResultDTO result : results) {
+            if (result.failed()) {
+                continue;
+            }
+            if (cache != null) {
+                cache.evict(result.id());
+            }
+            eventPublisher.publishEvent(TaskChangeEvent.deleted(result.id()));
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Writes tasks still waiting in the write-behind journal, so lookups and changes by id
+     * see every task acknowledged before the call; tasks journaled meanwhile are left to the
+     * flusher. A no-op, without any locking, when nothing is pending. The journal
+     * is written to the primary even when called from a {@link ReplicaRead} method.
+     */
+    private void drainWriteBehind() {
+        if (taskWriteBehind.isEnabled()) {
+            TaskReplicaContext.onPrimary(taskWriteBehind::flush);
+        }
+    }
+
+    /**
+     * Splits the batch items at {@code indexes} into chunks of at most {@link #BATCH_CHUNK_SIZE}, first by the
+     * shard owning the id returned by {@code idOf} (null when the items have no id yet), and runs each chunk
+     * on its shard.
+     */
+    private void forEachChunk(List<Integer> indexes, ToLongFunction<Integer> idOf, Consumer<List<Integer>> action) {
+        Map<Integer, List<Integer>> byShard = idOf == null ? Map.of(0, indexes) : taskShards.groupByShard(indexes, idOf);
+        byShard.forEach((shard, shardIndexes) -> {
+            for (int from = 0; from < shardIndexes.size(); from += BATCH_CHUNK_SIZE) {
+                List<Integer> chunk = shardIndexes.subList(from, Math.min(from + BATCH_CHUNK_SIZE, shardIndexes.size()));
+                taskShards.onShard(shard, () -> {
+                    action.accept(chunk);
+                    return null;
+                });
+            }
+        });
+    }
+
+    /**
+     * Runs one chunk in its own transaction. A failing chunk is rolled back as a whole and each of its
+     * items is reported with the cause, since a JDBC batch cannot attribute the failure to a single row.
+     */
+    private void runChunk(List<Integer> indexes, List<Long> ids, TaskBatchResultDTO[] results, Runnable chunk) {
+        if (indexes.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> chunk.run());
+        } catch (RuntimeException ex) {
+            ResponseError error = ResponseError.of(ex.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+            for (int i = 0; i < indexes.size(); i++) {
+                int index = indexes.get(i);
+                results[index] = TaskBatchResultDTO.failure(index, ids == null ? null : ids.get(i), error);
+            }
+        }
+    }
+
+    private <T> ResponseError validate(T taskRequestDTO) {
+        if (taskRequestDTO == null) {
+            return ResponseError.of("The batch item cannot be empty.", HttpStatus.BAD_REQUEST);
+        }
+        Set<ConstraintViolation<T>> violations = validator.validate(taskRequestDTO);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        List<String> errorMessages = violations.stream()
+                                        .map(ConstraintViolation::getMessage)
+                                        .sorted()
+                                        .collect(Collectors.toList());
+        return ResponseError.of(errorMessages, HttpStatus.BAD_REQUEST);
+    }
+
+    private TaskBatchResultDTO notFound(int index, Long id) {
+        return TaskBatchResultDTO.failure(index, id,
+                    ResponseError.of(new TaskNotFoundException(id).getMessage(), HttpStatus.NOT_FOUND));
+    }
+
+    private void cacheSuccessfulResults(TaskBatchResultDTO[] results) {
+        Cache cache = cacheManager.getCache(CacheConfig.TASKS_CACHE);
+        if (cache == null) {
+            return;
+        }
+        for (TaskBatchResultDTO result : results) {
+            if (!result.failed()) {
+                cache.put(result.id(), result.task());
+            }
+        }
+    }
+
+    private void publishSuccessfulResults(TaskBatchResultDTO[] results, Function<TaskDTO, TaskChangeEvent> event) {
+        for (TaskBatchResultDTO result : results) {
+            if (!result.failed()) {
+                eventPublisher.publishEvent(event.apply(result.task()));
+            }
+        }
+    }
+
+    private void recordResultSize(String operation, int size) {
+        resultSizes.computeIfAbsent(operation, tag -> DistributionSummary.builder(MetricsConfig.TASK_RESULT_SIZE)
+                                                            .tag("operation", tag)
+                                                            .register(meterRegistry))
+                   .record(size);
+    }
 }
@@ -0,0 +1,31 @@
+package com.mendes.task_manager.service.event;
+
+import com.mendes.task_manager.dto.TaskDTO;
+
+/**
+ * Published by {@code TaskService} for every task it creates, updates or deletes.
+ * {@code task} is null for deletions.
+ */
+public record TaskChangeEvent(
+    Type type,
+    Long id,
+    TaskDTO task
+) {
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static TaskChangeEvent created(TaskDTO task) {
+        return new TaskChangeEvent(Type.CREATED, task.getId(), task);
+    }
+
+    public static TaskChangeEvent updated(TaskDTO task) {
+        return new TaskChangeEvent(Type.UPDATED, task.getId(), task);
+    }
+
+    public static TaskChangeEvent deleted(Long id) {
+        return new TaskChangeEvent(Type.DELETED, id, null);
+    }
+}
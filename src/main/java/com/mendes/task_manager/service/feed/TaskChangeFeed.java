@@ -0,0 +1,139 @@
+package com.mendes.task_manager.service.feed;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mendes.task_manager.configuration.feed.ChangeFeedProperties;
+import com.mendes.task_manager.configuration.metrics.MetricsConfig;
+import com.mendes.task_manager.dto.TaskChangeDTO;
+import com.mendes.task_manager.service.event.TaskChangeEvent;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Server-Sent Events feed of committed task changes.
+ *
+ * <p>Every {@link TaskChangeEvent} gets the next sequence number and is rendered once into an SSE
+ * frame, which is kept in a {@link TaskChangeLog} and queued as is for every subscriber. Sequencing,
+ * replay and fan-out all run on one dispatcher thread, so events reach each subscriber in order and
+ * a client resuming from {@code Last-Event-ID} sees neither gaps nor duplicates. A client whose
+ * position is no longer in the log gets a {@code reset} event and should reload the list.
+ *
+ * <p>The dispatcher never writes to a socket: each {@link TaskFeedSubscriber} has a bounded queue and
+ * its own writer on a virtual thread, and one that falls {@code subscriber-buffer-size} frames behind
+ * is disconnected, to resume from the log when it reconnects.
+ */
+@Component
+public class TaskChangeFeed {
+    public static final String RESET_EVENT = "reset";
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    ChangeFeedProperties properties;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    private final List<TaskFeedSubscriber> subscribers = new CopyOnWriteArrayList<>();
+    private ScheduledExecutorService dispatcher;
+    private ExecutorService writers;
+    private TaskChangeLog<Set<DataWithMediaType>> changeLog;
+    private Set<DataWithMediaType> heartbeat;
+
+    @PostConstruct
+    void start() {
+        changeLog = new TaskChangeLog<>(properties.bufferSize());
+        heartbeat = SseEmitter.event().comment("heartbeat").build();
+        dispatcher = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("task-change-feed").daemon().factory());
+        writers = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("task-change-feed-writer-", 0).factory());
+        long interval = properties.heartbeatInterval().toMillis();
+        dispatcher.scheduleAtFixedRate(() -> broadcast(heartbeat), interval, interval, TimeUnit.MILLISECONDS);
+        Gauge.builder(MetricsConfig.TASK_FEED_SUBSCRIBERS, subscribers, List::size).register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stop() {
+        dispatcher.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter().complete());
+        subscribers.clear();
+        writers.shutdownNow();
+    }
+
+    /**
+     * Opens a stream of the changes after {@code lastEventId}; with no id only changes from
+     * now on are sent.
+     */
+    public SseEmitter subscribe(Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(properties.timeout().toMillis());
+        TaskFeedSubscriber subscriber = new TaskFeedSubscriber(emitter, properties.subscriberBufferSize(), writers);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(ex -> subscribers.remove(subscriber));
+
+        dispatcher.execute(() -> {
+            if (lastEventId != null) {
+                List<Set<DataWithMediaType>> missed = changeLog.after(lastEventId);
+                subscriber.replay(missed == null ? List.of(resetFrame()) : missed);
+            }
+            subscribers.add(subscriber);
+        });
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChange(TaskChangeEvent event) {
+        dispatcher.execute(() -> publish(event));
+    }
+
+    private void publish(TaskChangeEvent event) {
+        long sequence = changeLog.lastSequence() + 1;
+        TaskChangeDTO change = new TaskChangeDTO(sequence, event.type(), event.id(), event.task());
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(change);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException(ex);
+        }
+        Set<DataWithMediaType> frame = SseEmitter.event()
+                                            .id(String.valueOf(sequence))
+                                            .name(event.type().name())
+                                            .data(data)
+                                            .build();
+        changeLog.append(frame);
+        broadcast(frame);
+    }
+
+    private Set<DataWithMediaType> resetFrame() {
+        return SseEmitter.event()
+                    .id(String.valueOf(changeLog.lastSequence()))
+                    .name(RESET_EVENT)
+                    .data("{\"sequence\":" + changeLog.lastSequence() + "}")
+                    .build();
+    }
+
+    private void broadcast(Set<DataWithMediaType> frame) {
+        for (TaskFeedSubscriber subscriber : subscribers) {
+            if (!subscriber.offer(frame)) {
+                subscribers.remove(subscriber);
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.mendes.task_manager.service.feed;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ring buffer of the most recent change feed entries, indexed by sequence number. Sequences start
+ * at 1 and have no gaps, so the slot of an entry is its sequence modulo the capacity.
+ * Not thread-safe; {@link TaskChangeFeed} only touches it from its dispatcher thread.
+ */
+public class TaskChangeLog<T> {
+    private final Object[] entries;
+    private long lastSequence;
+
+    public TaskChangeLog(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The change log needs room for at least one entry.");
+        }
+        this.entries = new Object[capacity];
+    }
+
+    public long append(T entry) {
+        lastSequence++;
+        entries[(int) (lastSequence % entries.length)] = entry;
+        return lastSequence;
+    }
+
+    public long lastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * Entries with a sequence greater than {@code sequence}, oldest first, or null when some
+     * of them have already been overwritten and the caller cannot resume without a gap.
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> after(long sequence) {
+        long from = Math.max(sequence, 0) + 1;
+        if (sequence > lastSequence) {
+            return null;
+        }
+        if (lastSequence - from + 1 > entries.length) {
+            return null;
+        }
+        List<T> missed = new ArrayList<>((int) (lastSequence - from + 1));
+        for (long next = from; next <= lastSequence; next++) {
+            missed.add((T) entries[(int) (next % entries.length)]);
+        }
+        return missed;
+    }
+}
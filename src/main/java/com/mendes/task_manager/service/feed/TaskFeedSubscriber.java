@@ -0,0 +1,99 @@
+package com.mendes.task_manager.service.feed;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * One client of the {@link TaskChangeFeed}. The dispatcher only queues frames here; they are written by a
+ * task of this subscriber's own, started on {@code writers} while frames are pending, so a client that
+ * reads slowly delays nobody but itself. At most {@code capacity} frames wait. A client further behind is
+ * disconnected instead, and catches up by reconnecting with its {@code Last-Event-ID}.
+ */
+public class TaskFeedSubscriber {
+    private final SseEmitter emitter;
+    private final int capacity;
+    private final Executor writers;
+
+    // Guarded by this.
+    private final Queue<Set<DataWithMediaType>> pending = new ArrayDeque<>();
+    private boolean writing;
+    private boolean closed;
+
+    public TaskFeedSubscriber(SseEmitter emitter, int capacity, Executor writers) {
+        this.emitter = emitter;
+        this.capacity = capacity;
+        this.writers = writers;
+    }
+
+    public SseEmitter emitter() {
+        return emitter;
+    }
+
+    /** Queues the frames replayed on subscription, which the change log bounds rather than {@code capacity}. */
+    public synchronized void replay(List<Set<DataWithMediaType>> frames) {
+        if (!closed) {
+            pending.addAll(frames);
+            startWriter();
+        }
+    }
+
+    /**
+     * Queues {@code frame} without waiting on the client. Returns false once the subscriber is closed,
+     * including when this frame found it {@code capacity} frames behind.
+     */
+    public boolean offer(Set<DataWithMediaType> frame) {
+        synchronized (this) {
+            if (closed) {
+                return false;
+            }
+            if (pending.size() < capacity) {
+                pending.add(frame);
+                startWriter();
+                return true;
+            }
+            closed = true;
+            pending.clear();
+        }
+        // Completed on a writer: the emitter may be held by a send blocked on this client's socket.
+        writers.execute(emitter::complete);
+        return false;
+    }
+
+    private void startWriter() {
+        if (!writing && !pending.isEmpty()) {
+            writing = true;
+            writers.execute(this::write);
+        }
+    }
+
+    private void write() {
+        while (true) {
+            Set<DataWithMediaType> frame;
+            synchronized (this) {
+                frame = closed ? null : pending.poll();
+                if (frame == null) {
+                    writing = false;
+                    return;
+                }
+            }
+            try {
+                emitter.send(frame);
+            } catch (IOException | IllegalStateException ex) {
+                // The client went away; the container completes the emitter.
+                synchronized (this) {
+                    closed = true;
+                    pending.clear();
+                    writing = false;
+                }
+                return;
+            }
+        }
+    }
+}
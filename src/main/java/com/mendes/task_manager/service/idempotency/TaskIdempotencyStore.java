@@ -0,0 +1,103 @@
+package com.mendes.task_manager.service.idempotency;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mendes.task_manager.configuration.metrics.MetricsConfig;
+import com.mendes.task_manager.dto.TaskDTO;
+import com.mendes.task_manager.dto.TaskRequestDTO;
+import com.mendes.task_manager.exception.IdempotencyKeyReuseException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Task creations by {@code Idempotency-Key}, so a client retrying a {@code POST} gets the Task its first
+ * attempt created instead of a duplicate. The first request with a key registers a pending result and
+ * runs the insert; requests with the same key, whether they arrive during the insert or after it, wait
+ * on that result rather than touching the database. A failed insert is forgotten, so it can be retried.
+ *
+ * <p>Keys live in memory, bounded by {@code max-keys} and {@code ttl}, and are therefore not shared
+ * between instances or kept across restarts. Keys are registered with {@code putIfAbsent}, which Caffeine
+ * does not count as a cache hit or miss, so the outcomes are counted here instead.
+ */
+public class TaskIdempotencyStore {
+
+    public record Result(TaskDTO task, boolean replayed) {
+    }
+
+    /** The request is kept as title and description, enough to tell a retry from a different request. */
+    private record Entry(String title, String description, CompletableFuture<TaskDTO> response) {
+        boolean isFor(TaskRequestDTO request) {
+            return Objects.equals(title, request.getTitle()) && Objects.equals(description, request.getDescription());
+        }
+    }
+
+    private final Cache<String, Entry> entries;
+    private final Counter created;
+    private final Counter replayed;
+    private final Counter rejected;
+
+    public TaskIdempotencyStore(long maxKeys, Duration ttl, MeterRegistry meterRegistry) {
+        entries = Caffeine.newBuilder()
+                    .maximumSize(maxKeys)
+                    .expireAfterWrite(ttl)
+                    .build();
+        created = outcomeCounter(meterRegistry, "created");
+        replayed = outcomeCounter(meterRegistry, "replayed");
+        rejected = outcomeCounter(meterRegistry, "rejected");
+    }
+
+    private static Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(MetricsConfig.TASK_IDEMPOTENT_REQUESTS)
+                    .description("Task creations with an Idempotency-Key, by whether the key was new, replayed or reused for another request")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+    }
+
+    /**
+     * Returns the Task created for {@code key}, running {@code create} if there is none yet.
+     *
+     * @throws IdempotencyKeyReuseException when the key was used for a request with another body
+     */
+    public Result create(String key, TaskRequestDTO request, Supplier<TaskDTO> create) {
+        Entry entry = new Entry(request.getTitle(), request.getDescription(), new CompletableFuture<>());
+        Entry existing = entries.asMap().putIfAbsent(key, entry);
+        if (existing != null) {
+            if (!existing.isFor(request)) {
+                rejected.increment();
+                throw new IdempotencyKeyReuseException(key);
+            }
+            replayed.increment();
+            return new Result(await(existing.response()), true);
+        }
+
+        try {
+            TaskDTO task = create.get();
+            entry.response().complete(task);
+            created.increment();
+            return new Result(task, false);
+        } catch (RuntimeException | Error ex) {
+            entries.asMap().remove(key, entry);
+            entry.response().completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    /** Waiting requests fail with the exception of the insert they joined. */
+    private static TaskDTO await(CompletableFuture<TaskDTO> response) {
+        try {
+            return response.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.mendes.task_manager.service.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.mendes.task_manager.dto.TaskDTO;
+import com.mendes.task_manager.dto.TaskField;
+import com.mendes.task_manager.dto.TaskSort;
+import com.mendes.task_manager.exception.InvalidQueryParameterException;
+
+/**
+ * Opaque keyset cursor. It encodes {@code sort:id[:value]}: the sort token, the id of the
+ * last task returned and, unless sorted by id, that task's sort key, so {@code id:42} is
+ * the default order. Clients only ever see the encoded form, so the layout can change
+ * without breaking them.
+ */
+public final class TaskCursor {
+    private static final String PREFIX = "id:";
+
+    /** Where a sorted page stops: the id of its last task and, unless sorted by id, that task's sort key. */
+    public record Position(Long id, Object value) {
+    }
+
+    private TaskCursor() {}
+
+    public static String encode(Long lastId) {
+        return encodeRaw(PREFIX + lastId);
+    }
+
+    public static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String raw = decodeRaw(cursor);
+            if (!raw.startsWith(PREFIX)) {
+                throw invalid();
+            }
+            return parseId(raw.substring(PREFIX.length()));
+        } catch (IllegalArgumentException ex) {
+            throw invalid();
+        }
+    }
+
+    /**
+     * Cursor after {@code last} in {@code sort} order. The sort is part of the cursor, so it cannot be
+     * replayed with another one; in the default order it is the same cursor {@link #encode(Long)} returns.
+     */
+    public static String encode(TaskSort sort, TaskDTO last) {
+        String raw = sort.token() + ":" + last.getId();
+        if (sort.field() != TaskField.ID) {
+            raw += ":" + sort.field().get(last);
+        }
+        return encodeRaw(raw);
+    }
+
+    /** Returns null when the parameter is absent, meaning the first page. */
+    public static Position decode(String cursor, TaskSort sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = decodeRaw(cursor);
+            String prefix = sort.token() + ":";
+            if (!raw.startsWith(prefix)) {
+                throw invalid();
+            }
+            String position = raw.substring(prefix.length());
+            if (sort.field() == TaskField.ID) {
+                return new Position(parseId(position), null);
+            }
+            // The id comes first since a title may itself contain the separator.
+            int separator = position.indexOf(':');
+            if (separator < 0) {
+                throw invalid();
+            }
+            String value = position.substring(separator + 1);
+            return new Position(parseId(position.substring(0, separator)),
+                                sort.field() == TaskField.TITLE ? value : LocalDateTime.parse(value));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw invalid();
+        }
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeRaw(String cursor) {
+        return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    }
+
+    private static long parseId(String id) {
+        long lastId = Long.parseLong(id);
+        if (lastId < 0) {
+            throw invalid();
+        }
+        return lastId;
+    }
+
+    private static InvalidQueryParameterException invalid() {
+        return new InvalidQueryParameterException("The parameter `cursor` is invalid.");
+    }
+}
@@ -0,0 +1,80 @@
+package com.mendes.task_manager.service.replica;
+
+import java.time.Duration;
+import java.util.Set;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import com.mendes.task_manager.repository.replica.TaskReplicaContext;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Read-your-writes for clients of a replicated setup. A request that may change tasks runs on the primary
+ * and answers with a cookie holding the time until which that client's reads stay on the primary as well,
+ * {@code stickiness} from now, which should cover the replication lag. The cookie keeps the server
+ * stateless: any instance honours it, and clients that drop cookies simply read from the replicas.
+ */
+public class ReadYourWritesInterceptor implements AsyncHandlerInterceptor {
+    public static final String COOKIE_NAME = "task-manager-primary-until";
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final Duration stickiness;
+
+    public ReadYourWritesInterceptor(Duration stickiness) {
+        this.stickiness = stickiness;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        long now = System.currentTimeMillis();
+        if (SAFE_METHODS.contains(request.getMethod())) {
+            if (primaryUntil(request) > now) {
+                TaskReplicaContext.route(TaskReplicaContext.Target.PRIMARY);
+            }
+            return true;
+        }
+        TaskReplicaContext.route(TaskReplicaContext.Target.PRIMARY);
+        ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, String.valueOf(now + stickiness.toMillis()))
+                                    .path("/api/tasks")
+                                    .maxAge(stickiness)
+                                    .httpOnly(true)
+                                    .sameSite("Lax")
+                                    .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+        return true;
+    }
+
+    /** Streamed responses continue on another thread; this one goes back to the pool and must not keep the pin. */
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        TaskReplicaContext.restore(null);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        TaskReplicaContext.restore(null);
+    }
+
+    private static long primaryUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException ex) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+}
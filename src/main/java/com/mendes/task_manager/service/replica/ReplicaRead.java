@@ -0,0 +1,18 @@
+package com.mendes.task_manager.service.replica;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a service method that only reads tasks. With {@code task-manager.replicas.enabled}, the queries it
+ * runs may be served by a read replica, unless the calling client has just written (see
+ * {@link ReadYourWritesInterceptor}). The method must not start writing from inside.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReplicaRead {
+}
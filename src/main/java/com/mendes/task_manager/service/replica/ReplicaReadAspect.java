@@ -0,0 +1,28 @@
+package com.mendes.task_manager.service.replica;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import com.mendes.task_manager.repository.replica.TaskReplicaContext;
+
+/**
+ * Lets the connections of {@link ReplicaRead} methods come from a replica. Only registered when replicas are
+ * enabled. Ordered ahead of the transaction interceptor, which takes the connection when it begins.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ReplicaReadAspect {
+
+    @Around("@annotation(com.mendes.task_manager.service.replica.ReplicaRead)")
+    public Object routeToReplica(ProceedingJoinPoint joinPoint) throws Throwable {
+        TaskReplicaContext.Target previous = TaskReplicaContext.route(TaskReplicaContext.Target.REPLICA);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            TaskReplicaContext.restore(previous);
+        }
+    }
+}
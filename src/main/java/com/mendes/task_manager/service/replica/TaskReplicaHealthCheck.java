@@ -0,0 +1,26 @@
+package com.mendes.task_manager.service.replica;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.mendes.task_manager.configuration.metrics.MetricsConfig;
+import com.mendes.task_manager.repository.replica.TaskReplicaRoutingDataSource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/** Probes the replicas periodically and publishes how many are in rotation as {@code task.replicas.healthy}. */
+public class TaskReplicaHealthCheck {
+    private final TaskReplicaRoutingDataSource dataSource;
+
+    public TaskReplicaHealthCheck(TaskReplicaRoutingDataSource dataSource, MeterRegistry meterRegistry) {
+        this.dataSource = dataSource;
+        Gauge.builder(MetricsConfig.TASK_REPLICAS_HEALTHY, dataSource, TaskReplicaRoutingDataSource::healthyReplicas)
+                .description("Read replicas currently in rotation")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${task-manager.replicas.health-check-interval-ms:5000}")
+    public void check() {
+        dataSource.checkHealth();
+    }
+}
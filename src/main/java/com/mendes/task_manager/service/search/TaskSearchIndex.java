@@ -0,0 +1,230 @@
+package com.mendes.task_manager.service.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mendes.task_manager.dto.TaskDTO;
+import com.mendes.task_manager.model.Task;
+import com.mendes.task_manager.repository.TaskRepository;
+import com.mendes.task_manager.service.event.TaskChangeEvent;
+import com.mendes.task_manager.service.sharding.TaskShards;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * In-memory inverted index over task titles and descriptions.
+ *
+ * <p>Each term maps to the ids of the tasks containing it together with a weighted term frequency
+ * (title terms count double). A query only touches the posting lists of its own terms, so its cost
+ * depends on how common those terms are rather than on the size of {@code tb_tasks}. Hits are ranked
+ * by TF-IDF. The index is built once the application is ready and kept current from
+ * {@link TaskChangeEvent}s after their transaction commits.
+ *
+ * <p>With {@code task-manager.search.build-in-background} the build runs on its own thread, so startup
+ * does not wait for a large table to be read; until it ends, searches only see part of the tasks.
+ * Tasks changed while a build runs are taken from their events: the cursor may have read them
+ * before the change, so it skips them.
+ */
+@Component
+public class TaskSearchIndex {
+    private static final Logger logger = LoggerFactory.getLogger(TaskSearchIndex.class);
+
+    private static final int TITLE_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private final Map<String, Map<Long, Integer>> postings = new ConcurrentHashMap<>();
+    private final Map<Long, Map<String, Integer>> documents = new ConcurrentHashMap<>();
+
+    @Autowired
+    TaskRepository taskRepository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    TaskShards taskShards;
+
+    @Value("${task-manager.search.build-in-background:false}")
+    boolean buildInBackground;
+
+    private volatile boolean closing;
+    private volatile Set<Long> changedDuringRebuild;
+    private Thread backgroundBuild;
+
+    public record Hits(List<Long> ids, long total) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        // Command line runs (no web server) never serve searches, so they skip loading every task.
+        if (event.getSpringApplication().getWebApplicationType() == WebApplicationType.NONE) {
+            return;
+        }
+        if (buildInBackground) {
+            backgroundBuild = Thread.ofPlatform().name("task-search-index").daemon().start(this::rebuild);
+        } else {
+            rebuild();
+        }
+    }
+
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        Set<Long> changed = ConcurrentHashMap.newKeySet();
+        changedDuringRebuild = changed;
+        try {
+            // One shard after the other: a cursor is bound to the connection, and so to the shard, it was opened on.
+            for (int shard = 0; shard < taskShards.count() && !closing; shard++) {
+                taskShards.onShard(shard, () -> transactionTemplate.execute(status -> {
+                    try (Stream<Task> tasks = taskRepository.streamAllOrderedById()) {
+                        tasks.takeWhile(task -> !closing)
+                             .forEach(task -> indexUnlessChanged(changed, task.getId(), task.getTitle(), task.getDescription()));
+                    }
+                    return null;
+                }));
+            }
+        } finally {
+            changedDuringRebuild = null;
+        }
+        if (!closing) {
+            logger.info("Search index built with {} tasks and {} terms in {} ms",
+                            documents.size(), postings.size(), System.currentTimeMillis() - start);
+        }
+    }
+
+    /** Stops a background build and waits for it, so it never reads from a closed database. */
+    @PreDestroy
+    void stopBackgroundBuild() throws InterruptedException {
+        closing = true;
+        if (backgroundBuild != null) {
+            backgroundBuild.join();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChange(TaskChangeEvent event) {
+        // Recorded before the change is applied, so a cursor row read earlier cannot overwrite it.
+        Set<Long> changed = changedDuringRebuild;
+        if (changed != null) {
+            changed.add(event.id());
+        }
+        if (event.type() == TaskChangeEvent.Type.DELETED) {
+            remove(event.id());
+        } else {
+            TaskDTO task = event.task();
+            index(task.getId(), task.getTitle(), task.getDescription());
+        }
+    }
+
+    public void index(Long id, String title, String description) {
+        indexUnlessChanged(Set.of(), id, title, description);
+    }
+
+    private void indexUnlessChanged(Set<Long> changed, Long id, String title, String description) {
+        Map<String, Integer> terms = new HashMap<>();
+        addTerms(terms, title, TITLE_WEIGHT);
+        addTerms(terms, description, DESCRIPTION_WEIGHT);
+
+        // compute() serializes concurrent changes to the same task while other ids proceed in parallel.
+        documents.compute(id, (key, previous) -> {
+            // Checked under the same lock as the event applies its change, so either the event
+            // overwrites this row afterwards or this row is skipped.
+            if (changed.contains(id)) {
+                return previous;
+            }
+            if (previous != null) {
+                previous.keySet().forEach(term -> removePosting(term, id));
+            }
+            // The posting is added inside compute(): removePosting drops a list once it is empty, and a
+            // posting put into a list fetched beforehand could land in one that is no longer in the index.
+            terms.forEach((term, frequency) -> postings.compute(term, (t, posting) -> {
+                if (posting == null) {
+                    posting = new ConcurrentHashMap<>();
+                }
+                posting.put(id, frequency);
+                return posting;
+            }));
+            return terms;
+        });
+    }
+
+    public void remove(Long id) {
+        documents.computeIfPresent(id, (key, previous) -> {
+            previous.keySet().forEach(term -> removePosting(term, id));
+            return null;
+        });
+    }
+
+    public Hits search(String query, int offset, int limit) {
+        List<String> queryTerms = tokenize(query).stream().distinct().toList();
+        long documentCount = Math.max(1, documents.size());
+
+        Map<Long, Double> scores = new HashMap<>();
+        for (String term : queryTerms) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting == null || posting.isEmpty()) {
+                continue;
+            }
+            double idf = Math.log(1.0 + (double) documentCount / posting.size());
+            posting.forEach((id, frequency) -> scores.merge(id, frequency * idf, Double::sum));
+        }
+
+        if (offset >= scores.size()) {
+            return new Hits(Collections.emptyList(), scores.size());
+        }
+
+        List<Map.Entry<Long, Double>> ranked = new ArrayList<>(scores.entrySet());
+        ranked.sort(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()));
+
+        List<Long> ids = ranked.subList(offset, Math.min(offset + limit, ranked.size()))
+                            .stream()
+                            .map(Map.Entry::getKey)
+                            .toList();
+        return new Hits(ids, scores.size());
+    }
+
+    private void removePosting(String term, Long id) {
+        postings.computeIfPresent(term, (key, posting) -> {
+            posting.remove(id);
+            return posting.isEmpty() ? null : posting;
+        });
+    }
+
+    private static void addTerms(Map<String, Integer> terms, String text, int weight) {
+        for (String term : tokenize(text)) {
+            terms.merge(term, weight, Integer::sum);
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,255 @@
+package com.mendes.task_manager.service.sharding;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.web.reactive.context.ReactiveWebApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mendes.task_manager.configuration.sharding.ShardingProperties;
+import com.mendes.task_manager.configuration.writebehind.WriteBehindProperties;
+import com.mendes.task_manager.dto.TaskDTO;
+import com.mendes.task_manager.dto.TaskRequestDTO;
+import com.mendes.task_manager.repository.sharding.TaskShardContext;
+import com.mendes.task_manager.repository.sharding.TaskShardRouter;
+import com.mendes.task_manager.service.writebehind.TaskIdAllocator;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs repository calls on the shard that owns a task, or on every shard at once. When sharding is off
+ * there is a single shard and every method calls straight through, so callers use it unconditionally.
+ *
+ * <p>Ids are global: they are all handed out by {@link TaskIdAllocator} from the sequence of the first
+ * shard, which acts as the coordinator, and a row is then inserted on the shard its id routes to. Reads
+ * across shards are scattered on virtual threads and gathered with {@link #merge}, so a page costs one
+ * index range scan per shard and never more than {@code limit} rows from each.
+ */
+@Component
+public class TaskShards {
+    private static final String INSERT_SQL = "INSERT INTO tb_tasks (task_id, task_title, task_description, created_at, updated_at) "
+                                           + "VALUES (?, ?, ?, ?, ?)";
+
+    @Autowired
+    ShardingProperties properties;
+
+    @Autowired
+    WriteBehindProperties writeBehindProperties;
+
+    @Autowired
+    ApplicationContext applicationContext;
+
+    @Autowired
+    TaskIdAllocator taskIdAllocator;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    private boolean enabled;
+    private TaskShardRouter router = new TaskShardRouter(1, TaskShardRouter.Strategy.HASH, 1);
+    private ExecutorService executor;
+
+    @PostConstruct
+    void init() {
+        if (!properties.enabled()) {
+            return;
+        }
+        // Both write to tb_tasks without going through the service, so they cannot route by id.
+        if (writeBehindProperties.enabled()) {
+            throw new IllegalStateException("task-manager.write-behind cannot be enabled together with task-manager.sharding.");
+        }
+        if (applicationContext instanceof ReactiveWebApplicationContext) {
+            throw new IllegalStateException("The reactive stack does not support task-manager.sharding.");
+        }
+        // A session opened for the whole request keeps the connection, and so the shard, of its first query;
+        // the per-shard transactions that follow would run on it.
+        if (applicationContext.getBeanNamesForType(OpenEntityManagerInViewInterceptor.class, false, false).length > 0) {
+            throw new IllegalStateException("task-manager.sharding requires spring.jpa.open-in-view=false.");
+        }
+        enabled = true;
+        router = new TaskShardRouter(properties.shards(), properties.strategy(), properties.rangeSize());
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @PreDestroy
+    void close() {
+        if (executor != null) {
+            executor.close();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int count() {
+        return router.shards();
+    }
+
+    public int shardOf(long id) {
+        return router.shardOf(id);
+    }
+
+    /**
+     * Runs {@code action} with its connections taken from {@code shard}. Switching to another shard is
+     * refused inside a transaction, which would keep using the connection of the shard it started on.
+     */
+    public <T> T onShard(int shard, Supplier<T> action) {
+        if (!enabled) {
+            return action.get();
+        }
+        Integer current = TaskShardContext.current();
+        if ((current == null ? 0 : current) == shard) {
+            return action.get();
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Shard " + shard + " cannot be selected inside a transaction on shard "
+                                                + (current == null ? 0 : current) + ".");
+        }
+        return TaskShardContext.call(shard, action);
+    }
+
+    public <T> T onShardOf(long id, Supplier<T> action) {
+        return onShard(shardOf(id), action);
+    }
+
+    /** Runs {@code action} on every shard concurrently and returns the results in shard order. */
+    public <T> List<T> onEachShard(Supplier<T> action) {
+        if (count() == 1) {
+            return Collections.singletonList(onShard(0, action));
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Shards cannot be queried together inside a transaction.");
+        }
+        List<Future<T>> futures = new ArrayList<>(count());
+        for (int shard = 0; shard < count(); shard++) {
+            int target = shard;
+            futures.add(executor.submit(() -> TaskShardContext.call(target, action)));
+        }
+        List<T> results = new ArrayList<>(count());
+        for (Future<T> future : futures) {
+            results.add(await(future));
+        }
+        return results;
+    }
+
+    /** Splits {@code items} by the shard of their id, keeping their order within each shard. */
+    public <T> Map<Integer, List<T>> groupByShard(Collection<T> items, ToLongFunction<T> idOf) {
+        Map<Integer, List<T>> groups = new TreeMap<>();
+        for (T item : items) {
+            groups.computeIfAbsent(shardOf(idOf.applyAsLong(item)), shard -> new ArrayList<>()).add(item);
+        }
+        return groups;
+    }
+
+    /** Runs {@code query} once per shard with the ids it owns and concatenates what it returns. */
+    public <T> List<T> findAllById(List<Long> ids, Function<List<Long>, List<T>> query) {
+        if (!enabled) {
+            return query.apply(ids);
+        }
+        List<T> found = new ArrayList<>(ids.size());
+        groupByShard(ids, Long::longValue).forEach((shard, shardIds) -> found.addAll(onShard(shard, () -> query.apply(shardIds))));
+        return found;
+    }
+
+    /**
+     * Merges lists that are each sorted by {@code order} into the first {@code limit} elements of their
+     * union, reading every list only as far as needed. A single list is returned as is, up to {@code limit}.
+     */
+    public static <T> List<T> merge(List<List<T>> lists, Comparator<? super T> order, int limit) {
+        if (lists.size() == 1) {
+            List<T> only = lists.get(0);
+            return only.size() <= limit ? only : only.subList(0, limit);
+        }
+
+        record Head<T>(T item, Iterator<T> rest) {
+        }
+        PriorityQueue<Head<T>> heads = new PriorityQueue<>(lists.size(), (a, b) -> order.compare(a.item(), b.item()));
+        int total = 0;
+        for (List<T> list : lists) {
+            total += list.size();
+            Iterator<T> iterator = list.iterator();
+            if (iterator.hasNext()) {
+                heads.add(new Head<>(iterator.next(), iterator));
+            }
+        }
+        List<T> merged = new ArrayList<>(Math.min(limit, total));
+        while (merged.size() < limit && !heads.isEmpty()) {
+            Head<T> head = heads.poll();
+            merged.add(head.item());
+            if (head.rest().hasNext()) {
+                heads.add(new Head<>(head.rest().next(), head.rest()));
+            }
+        }
+        return merged;
+    }
+
+    /** Builds a task with its final id, reserved on the coordinator shard, and both timestamps set to {@code now}. */
+    public TaskDTO newTask(TaskRequestDTO taskRequestDTO, LocalDateTime now) {
+        TaskDTO task = new TaskDTO();
+        task.setId(onShard(0, taskIdAllocator::nextId));
+        task.setTitle(taskRequestDTO.getTitle());
+        task.setDescription(taskRequestDTO.getDescription());
+        task.setCreatedAt(now);
+        task.setLastUpdatedAt(now);
+        return task;
+    }
+
+    /**
+     * Inserts tasks built by {@link #newTask} as one JDBC batch per shard, each in its own transaction
+     * unless the caller already runs one on that shard.
+     */
+    public void insert(List<TaskDTO> tasks) {
+        groupByShard(tasks, TaskDTO::getId).forEach((shard, group) -> onShard(shard, () ->
+            transactionTemplate.execute(status ->
+                jdbcTemplate.batchUpdate(INSERT_SQL, group, group.size(), (statement, task) -> {
+                    statement.setLong(1, task.getId());
+                    statement.setString(2, task.getTitle());
+                    statement.setString(3, task.getDescription());
+                    statement.setObject(4, task.getCreatedAt());
+                    statement.setObject(5, task.getLastUpdatedAt());
+                }))));
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a shard.", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.mendes.task_manager.service.singleflight;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent loads of the same key: the first caller runs the loader, callers arriving while it
+ * runs wait for its result (or its exception) instead of loading again. Nothing is kept once the load
+ * completes, so this is not a cache; a caller arriving afterwards loads anew.
+ *
+ * <p>Registering a load is a single {@code putIfAbsent} on a {@link ConcurrentHashMap}, so callers of
+ * different keys do not wait on each other and no lock is held while a loader runs. A loader must not
+ * load its own key again, which would wait on itself.
+ */
+public class SingleFlight<K, V> {
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder coalesced = new LongAdder();
+
+    public V load(K key, Supplier<V> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Lets the next caller of {@code key} start a load of its own instead of joining the one in flight,
+     * which may have read the key before a change. Callers already waiting keep waiting for it.
+     */
+    public void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    /** Callers that were given the result of another caller's load. */
+    public long coalesced() {
+        return coalesced.sum();
+    }
+
+    private static <V> V await(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.mendes.task_manager.service.slowquery;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+/**
+ * DataSource whose statements report their execution time to the {@link SlowQueryLog}. It covers everything
+ * that goes through JDBC: Hibernate, {@code JdbcTemplate} and Flyway. The time is that of the
+ * {@code execute*} call itself; reading the rows of a {@code ResultSet} afterwards is not included.
+ *
+ * <p>The statement proxy counts the parameters bound on it (the highest index set since the last
+ * {@code clearParameters}, summed over the rows of a batch), so a slow query can be told apart from a
+ * slow batch without logging the values themselves.
+ */
+public final class SlowQueryDataSource {
+
+    private SlowQueryDataSource() {}
+
+    public static DataSource wrap(DataSource dataSource, Supplier<SlowQueryLog> slowQueryLog) {
+        return proxy(DataSource.class, new DataSourceHandler(dataSource, slowQueryLog));
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(SlowQueryDataSource.class.getClassLoader(), new Class<?>[] {type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    /** Answers {@code unwrap} and {@code isWrapperFor} for the proxy, then for the object behind it. */
+    private static Object unwrap(Object proxy, Object target, Method method, Object[] args) throws Throwable {
+        Class<?> type = (Class<?>) args[0];
+        if (type.isInstance(proxy)) {
+            return method.getName().equals("unwrap") ? proxy : Boolean.TRUE;
+        }
+        return invoke(target, method, args);
+    }
+
+    /** Proxies are only equal to themselves, which is what Spring expects when it compares DataSources. */
+    private static Object identity(Object proxy, Method method, Object[] args) {
+        if (method.getDeclaringClass() != Object.class) {
+            return null;
+        }
+        return switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> null;
+        };
+    }
+
+    private static boolean isUnwrap(Method method) {
+        return method.getName().equals("unwrap") || method.getName().equals("isWrapperFor");
+    }
+
+    private static final class DataSourceHandler implements InvocationHandler {
+        private final DataSource target;
+        private final Supplier<SlowQueryLog> slowQueryLogProvider;
+        private volatile SlowQueryLog slowQueryLog;
+
+        DataSourceHandler(DataSource target, Supplier<SlowQueryLog> slowQueryLogProvider) {
+            this.target = target;
+            this.slowQueryLogProvider = slowQueryLogProvider;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object identity = identity(proxy, method, args);
+            if (identity != null) {
+                return identity;
+            }
+            if (isUnwrap(method)) {
+                return unwrap(proxy, target, method, args);
+            }
+            Object result = SlowQueryDataSource.invoke(target, method, args);
+            if (result instanceof Connection connection) {
+                return proxy(Connection.class, new ConnectionHandler(connection, slowQueryLog()));
+            }
+            return result;
+        }
+
+        private SlowQueryLog slowQueryLog() {
+            SlowQueryLog log = slowQueryLog;
+            if (log == null) {
+                log = slowQueryLogProvider.get();
+                slowQueryLog = log;
+            }
+            return log;
+        }
+    }
+
+    private static final class ConnectionHandler implements InvocationHandler {
+        private final Connection target;
+        private final SlowQueryLog slowQueryLog;
+
+        ConnectionHandler(Connection target, SlowQueryLog slowQueryLog) {
+            this.target = target;
+            this.slowQueryLog = slowQueryLog;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object identity = identity(proxy, method, args);
+            if (identity != null) {
+                return identity;
+            }
+            if (isUnwrap(method)) {
+                return unwrap(proxy, target, method, args);
+            }
+            Object result = SlowQueryDataSource.invoke(target, method, args);
+            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+            return switch (result) {
+                case CallableStatement statement -> proxy(CallableStatement.class,
+                                                            new StatementHandler(statement, sql, (Connection) proxy, slowQueryLog));
+                case PreparedStatement statement -> proxy(PreparedStatement.class,
+                                                            new StatementHandler(statement, sql, (Connection) proxy, slowQueryLog));
+                case Statement statement -> proxy(Statement.class,
+                                                    new StatementHandler(statement, null, (Connection) proxy, slowQueryLog));
+                case null, default -> result;
+            };
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+        private final Statement target;
+        private final Connection connection;
+        private final SlowQueryLog slowQueryLog;
+        private String sql;
+        private int parameters;
+        private int batchedParameters;
+
+        StatementHandler(Statement target, String sql, Connection connection, SlowQueryLog slowQueryLog) {
+            this.target = target;
+            this.sql = sql;
+            this.connection = connection;
+            this.slowQueryLog = slowQueryLog;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object identity = identity(proxy, method, args);
+            if (identity != null) {
+                return identity;
+            }
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                return execute(name, method, args);
+            }
+            if (name.startsWith("set") && args != null && args.length >= 2) {
+                // setXxx(index, value[, ...]); named parameters of a CallableStatement count one each.
+                parameters = args[0] instanceof Integer index ? Math.max(parameters, index) : parameters + 1;
+            } else if (name.equals("clearParameters")) {
+                parameters = 0;
+            } else if (name.equals("addBatch")) {
+                if (args != null && args.length == 1) {
+                    sql = sql == null ? (String) args[0] : sql;
+                } else {
+                    batchedParameters += parameters;
+                }
+            } else if (name.equals("clearBatch")) {
+                batchedParameters = 0;
+            } else if (name.equals("getConnection")) {
+                return connection;
+            } else if (isUnwrap(method)) {
+                return unwrap(proxy, target, method, args);
+            }
+            return SlowQueryDataSource.invoke(target, method, args);
+        }
+
+        private Object execute(String name, Method method, Object[] args) throws Throwable {
+            boolean batch = name.endsWith("Batch");
+            long start = System.nanoTime();
+            try {
+                return SlowQueryDataSource.invoke(target, method, args);
+            } finally {
+                long nanos = System.nanoTime() - start;
+                String statement = args != null && args.length > 0 && args[0] instanceof String s ? s : sql;
+                slowQueryLog.record(statement, batch ? batchedParameters : parameters, nanos);
+                if (batch) {
+                    batchedParameters = 0;
+                }
+            }
+        }
+    }
+}
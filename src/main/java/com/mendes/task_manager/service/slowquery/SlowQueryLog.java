@@ -0,0 +1,73 @@
+package com.mendes.task_manager.service.slowquery;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.mendes.task_manager.configuration.metrics.MetricsConfig;
+import com.mendes.task_manager.service.TaskService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Records statements that ran for at least the threshold. A statement under it costs one comparison;
+ * only slow ones are counted, sampled, traced back to their caller and logged. The logger writes
+ * through an asynchronous appender (see {@code logback-spring.xml}), so even then the query's thread
+ * does not wait on the console.
+ */
+public class SlowQueryLog {
+    private static final Logger logger = LoggerFactory.getLogger(SlowQueryLog.class);
+
+    private static final String APPLICATION_PACKAGE = "com.mendes.task_manager.";
+    private static final String OWN_PACKAGE = SlowQueryLog.class.getPackageName() + ".";
+
+    private final long thresholdNanos;
+    private final double sampleRate;
+    private final Counter slowQueries;
+
+    public SlowQueryLog(Duration threshold, double sampleRate, MeterRegistry meterRegistry) {
+        this.thresholdNanos = threshold.toNanos();
+        this.sampleRate = sampleRate;
+        this.slowQueries = Counter.builder(MetricsConfig.TASK_SLOW_QUERIES)
+                                .description("Statements that ran for at least the slow query threshold")
+                                .register(meterRegistry);
+    }
+
+    public void record(String sql, int binds, long nanos) {
+        if (nanos < thresholdNanos) {
+            return;
+        }
+        slowQueries.increment();
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+        logger.warn("Slow query took {} ms with {} binds in {}: {}", nanos / 1_000_000, binds, caller(), sql);
+    }
+
+    /**
+     * The {@link TaskService} method the statement was run for, or else the closest application frame
+     * (the write-behind flusher, the warm start, ...). Spring proxies and this package are skipped.
+     */
+    private static String caller() {
+        return StackWalker.getInstance().walk(frames -> {
+            String closest = null;
+            for (StackWalker.StackFrame frame : (Iterable<StackWalker.StackFrame>) frames::iterator) {
+                String className = frame.getClassName();
+                if (!className.startsWith(APPLICATION_PACKAGE) || className.startsWith(OWN_PACKAGE) || className.contains("$$")) {
+                    continue;
+                }
+                String method = className.substring(className.lastIndexOf('.') + 1) + "." + frame.getMethodName();
+                if (className.equals(TaskService.class.getName())) {
+                    return method;
+                }
+                if (closest == null) {
+                    closest = method;
+                }
+            }
+            return closest != null ? closest : "unknown";
+        });
+    }
+}
@@ -0,0 +1,145 @@
+package com.mendes.task_manager.service.snapshot;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mendes.task_manager.dto.TaskPageDTO;
+import com.mendes.task_manager.repository.TaskCollectionVersion;
+import com.mendes.task_manager.repository.replica.TaskReplicaContext;
+import com.mendes.task_manager.service.TaskService;
+import com.mendes.task_manager.service.event.TaskChangeEvent;
+import com.mendes.task_manager.service.writebehind.TaskJournalFlushedEvent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Serialized, precompressed {@code GET /api/tasks} JSON pages keyed by cursor and limit. A hit is
+ * served as stored bytes, skipping the query, the mapping, Jackson and the compressor. Every entry
+ * is dropped on any task change; a generation counter keeps a page built concurrently with a change
+ * from being cached with the old contents. The collection version the pages' ETag and Last-Modified
+ * are built from is kept the same way, so a hit, or a request answered 304, does not query at all.
+ */
+@Component
+public class TaskPageSnapshotCache {
+    public static final String CACHE_NAME = "taskPageSnapshots";
+
+    public record Snapshot(byte[] json, byte[] gzip, String next) {
+    }
+
+    private record Key(String cursor, int limit) {
+    }
+
+    private record Version(long generation, TaskCollectionVersion version) {
+    }
+
+    @Autowired
+    TaskService taskService;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Value("${task-manager.page-snapshot.max-size:32MB}")
+    DataSize maxSize;
+
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicReference<Version> version = new AtomicReference<>();
+    private Cache<Key, Snapshot> snapshots;
+
+    @PostConstruct
+    void init() {
+        snapshots = Caffeine.newBuilder()
+                        .maximumWeight(maxSize.toBytes())
+                        .weigher((Key key, Snapshot snapshot) -> snapshot.json().length + snapshot.gzip().length)
+                        .recordStats()
+                        .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, snapshots, CACHE_NAME);
+    }
+
+    public Snapshot get(String cursor, int limit) {
+        Key key = new Key(cursor == null ? "" : cursor, limit);
+        Snapshot snapshot = snapshots.getIfPresent(key);
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        long builtAt = generation.get();
+        // Filled from the primary: a lagging replica could otherwise leave a stale page cached until the next change.
+        snapshot = TaskReplicaContext.onPrimary(() -> build(cursor, limit));
+        snapshots.put(key, snapshot);
+        if (generation.get() != builtAt) {
+            snapshots.invalidate(key);
+        }
+        return snapshot;
+    }
+
+    /** The version of the whole collection, read again only after a task change. */
+    public TaskCollectionVersion version() {
+        long current = generation.get();
+        Version cached = version.get();
+        if (cached != null && cached.generation() == current) {
+            return cached.version();
+        }
+        // Tagged with the generation read before the query, so a version read during a change is used only once.
+        TaskCollectionVersion loaded = TaskReplicaContext.onPrimary(taskService::findCollectionVersion);
+        version.set(new Version(current, loaded));
+        return loaded;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChange(TaskChangeEvent event) {
+        invalidateAll();
+    }
+
+    @EventListener
+    public void onJournalFlushed(TaskJournalFlushedEvent event) {
+        invalidateAll();
+    }
+
+    private void invalidateAll() {
+        generation.incrementAndGet();
+        snapshots.invalidateAll();
+    }
+
+    private Snapshot build(String cursor, int limit) {
+        TaskPageDTO page = taskService.findTaskPage(cursor, limit);
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(page.tasks());
+            return new Snapshot(json, gzip(json), page.next());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /** Compressed once per snapshot, so the slowest, tightest level is worth it. */
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(bytes);
+        }
+        return compressed.toByteArray();
+    }
+}
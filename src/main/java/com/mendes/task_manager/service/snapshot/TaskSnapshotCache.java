@@ -0,0 +1,96 @@
+package com.mendes.task_manager.service.snapshot;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mendes.task_manager.dto.TaskDTO;
+import com.mendes.task_manager.service.TaskService;
+import com.mendes.task_manager.service.event.TaskChangeEvent;
+import com.mendes.task_manager.service.versioning.TaskVersion;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Serialized {@code GET /api/tasks/{id}} JSON bodies keyed by task id, stored with the ETag and
+ * Last-Modified of the `updated_at` version they were built from. A hit is served as stored bytes,
+ * skipping the mapping and Jackson, and allocates nothing of its own. An entry is dropped when its task is
+ * updated or deleted; as in {@link TaskPageSnapshotCache}, a generation counter keeps a body built
+ * concurrently with a change from being cached with the old contents.
+ */
+@Component
+public class TaskSnapshotCache {
+    public static final String CACHE_NAME = "taskSnapshots";
+
+    public record Snapshot(byte[] json, String etag, long lastModified) {
+    }
+
+    @Autowired
+    TaskService taskService;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Value("${task-manager.task-snapshot.max-size:16MB}")
+    DataSize maxSize;
+
+    private final AtomicLong generation = new AtomicLong();
+    private Cache<Long, Snapshot> snapshots;
+
+    @PostConstruct
+    void init() {
+        snapshots = Caffeine.newBuilder()
+                        .maximumWeight(maxSize.toBytes())
+                        .weigher((Long id, Snapshot snapshot) -> snapshot.json().length + snapshot.etag().length())
+                        .recordStats()
+                        .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, snapshots, CACHE_NAME);
+    }
+
+    public Snapshot get(Long id) {
+        Snapshot snapshot = snapshots.getIfPresent(id);
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        long builtAt = generation.get();
+        snapshot = build(taskService.findTaskById(id));
+        snapshots.put(id, snapshot);
+        if (generation.get() != builtAt) {
+            snapshots.invalidate(id);
+        }
+        return snapshot;
+    }
+
+    /** New tasks have no entry yet, so only updates and deletions invalidate. */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChange(TaskChangeEvent event) {
+        if (event.type() != TaskChangeEvent.Type.CREATED) {
+            generation.incrementAndGet();
+            snapshots.invalidate(event.id());
+        }
+    }
+
+    private Snapshot build(TaskDTO task) {
+        try {
+            return new Snapshot(objectMapper.writeValueAsBytes(task), TaskVersion.etag(task),
+                                TaskVersion.lastModified(task.getLastUpdatedAt()));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.mendes.task_manager.service.transfer;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.stereotype.Component;
+
+import com.mendes.task_manager.dto.TaskImportResultDTO;
+
+/**
+ * Command line mode: {@code import <file>} or {@code export <file>}, with an optional {@code --format=ndjson|csv}
+ * (otherwise taken from the file extension). The exit code is 0 on success, 1 when rows were rejected and 2 on
+ * a usage error. Without a command this runner does nothing and the application serves HTTP as usual.
+ */
+@Component
+public class TaskTransferCommand implements ApplicationRunner, ExitCodeGenerator {
+    private static final Logger logger = LoggerFactory.getLogger(TaskTransferCommand.class);
+
+    public static final String IMPORT = "import";
+    public static final String EXPORT = "export";
+    private static final Set<String> COMMANDS = Set.of(IMPORT, EXPORT);
+
+    @Autowired
+    TaskTransferService taskTransferService;
+
+    private int exitCode;
+
+    /** True when {@code args} start the command line mode rather than the server. */
+    public static boolean isCommand(String[] args) {
+        return Arrays.stream(args)
+                    .filter(arg -> !arg.startsWith("--"))
+                    .findFirst()
+                    .map(COMMANDS::contains)
+                    .orElse(false);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        List<String> command = args.getNonOptionArgs();
+        if (command.isEmpty() || !COMMANDS.contains(command.get(0))) {
+            return;
+        }
+        exitCode = 0;
+        if (command.size() != 2) {
+            logger.error("Usage: import <file> | export <file> [--format=ndjson|csv]");
+            exitCode = 2;
+            return;
+        }
+
+        Path file = Path.of(command.get(1));
+        TaskTransferFormat format = args.containsOption("format")
+                                    ? TaskTransferFormat.parse(args.getOptionValues("format").get(0))
+                                    : TaskTransferFormat.fromFileName(file.toString());
+
+        if (IMPORT.equals(command.get(0))) {
+            // No other process listens to this one's changes; servers rebuild their search index on start.
+            TaskImportResultDTO result;
+            try (InputStream input = new BufferedInputStream(Files.newInputStream(file), 64 * 1024)) {
+                result = taskTransferService.importTasks(input, format, false);
+            }
+            result.rejections().forEach(rejection -> logger.warn("Row {} rejected: {}", rejection.row(), rejection.errors()));
+            exitCode = result.rejected() > 0 ? 1 : 0;
+        } else {
+            try (OutputStream output = Files.newOutputStream(file)) {
+                taskTransferService.exportTasks(output, format);
+            }
+        }
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
+}
@@ -0,0 +1,50 @@
+package com.mendes.task_manager.service.transfer;
+
+import org.springframework.http.MediaType;
+
+import com.mendes.task_manager.exception.InvalidQueryParameterException;
+
+/** File formats understood by {@link TaskTransferService}: one Task per line either way. */
+public enum TaskTransferFormat {
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+    CSV(MediaType.parseMediaType(TaskTransferFormat.TEXT_CSV_VALUE), "csv");
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    TaskTransferFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    /** Parses the {@code format} parameter; null selects NDJSON. */
+    public static TaskTransferFormat parse(String format) {
+        if (format == null) {
+            return NDJSON;
+        }
+        for (TaskTransferFormat candidate : values()) {
+            if (candidate.extension.equalsIgnoreCase(format.trim())) {
+                return candidate;
+            }
+        }
+        throw new InvalidQueryParameterException("The parameter `format` accepts only: ndjson, csv.");
+    }
+
+    public static TaskTransferFormat fromContentType(MediaType contentType) {
+        return CSV.mediaType.isCompatibleWith(contentType) ? CSV : NDJSON;
+    }
+
+    public static TaskTransferFormat fromFileName(String fileName) {
+        return fileName.toLowerCase().endsWith("." + CSV.extension) ? CSV : NDJSON;
+    }
+}
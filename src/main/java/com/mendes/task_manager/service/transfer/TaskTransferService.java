@@ -0,0 +1,308 @@
+package com.mendes.task_manager.service.transfer;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.mendes.task_manager.configuration.metrics.MetricsConfig;
+import com.mendes.task_manager.dto.TaskDTO;
+import com.mendes.task_manager.dto.TaskImportResultDTO;
+import com.mendes.task_manager.dto.TaskRequestDTO;
+import com.mendes.task_manager.service.TaskService;
+import com.mendes.task_manager.service.event.TaskChangeEvent;
+import com.mendes.task_manager.service.sharding.TaskShards;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Bulk import and export of tasks as NDJSON or CSV. Both directions stream: an import holds at most one
+ * chunk of {@link TaskService#BATCH_CHUNK_SIZE} rows, written as one JDBC batch per transaction (and shard), and an
+ * export reads through a forward-only cursor {@link #EXPORT_FETCH_SIZE} rows at a time. Progress is logged
+ * every {@link #PROGRESS_INTERVAL} rows and counted in {@code task.transfer.rows}.
+ */
+@Service
+public class TaskTransferService {
+    private static final Logger logger = LoggerFactory.getLogger(TaskTransferService.class);
+
+    public static final int EXPORT_FETCH_SIZE = 500;
+    public static final int MAX_REPORTED_REJECTIONS = 100;
+    public static final long PROGRESS_INTERVAL = 100_000;
+
+    private static final String INVALID_ROW = "The row is not a valid Task.";
+    private static final String EXPORT_SQL = "SELECT task_id, task_title, task_description, created_at, updated_at "
+                                           + "FROM tb_tasks ORDER BY task_id";
+    private static final CsvSchema CSV_EXPORT_SCHEMA = CsvSchema.builder()
+                                                        .addColumn("id")
+                                                        .addColumn("title")
+                                                        .addColumn("description")
+                                                        .addColumn("createdAt")
+                                                        .addColumn("lastUpdatedAt")
+                                                        .setUseHeader(true)
+                                                        .build();
+
+    // Import files may carry the exported columns; only `title` and `description` are read.
+    private final CsvMapper csvMapper = CsvMapper.builder()
+                                        .addModule(new JavaTimeModule())
+                                        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                                        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                                        .enable(CsvParser.Feature.IGNORE_TRAILING_UNMAPPABLE)
+                                        .disable(JsonParser.Feature.AUTO_CLOSE_SOURCE)
+                                        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                                        .build();
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    TaskShards taskShards;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    Validator validator;
+
+    @Autowired
+    ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    /**
+     * Reads {@code input} to the end without closing it. Rows that fail {@link TaskRequestDTO} validation are
+     * rejected and the rest imported. With {@code publishChanges} every imported task is also published as a
+     * {@link TaskChangeEvent}, like tasks created through {@link TaskService}. A CSV file that cannot be parsed
+     * further stops the import at that row, keeping the rows already imported.
+     */
+    public TaskImportResultDTO importTasks(InputStream input, TaskTransferFormat format, boolean publishChanges) throws IOException {
+        Import run = new Import(publishChanges);
+        if (format == TaskTransferFormat.CSV) {
+            readCsv(input, run);
+        } else {
+            readNdjson(input, run);
+        }
+        run.flush();
+
+        logger.info("Import finished: {} rows read, {} tasks imported, {} rejected.", run.read, run.imported, run.rejected);
+        return new TaskImportResultDTO(run.read, run.imported, run.rejected, run.rejections);
+    }
+
+    private void readNdjson(InputStream input, Import run) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        ObjectReader taskReader = objectMapper.readerFor(TaskRequestDTO.class);
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            TaskRequestDTO taskRequestDTO;
+            try {
+                taskRequestDTO = taskReader.readValue(line);
+            } catch (JsonProcessingException ex) {
+                run.reject(List.of(INVALID_ROW));
+                continue;
+            }
+            run.add(taskRequestDTO);
+        }
+    }
+
+    private void readCsv(InputStream input, Import run) throws IOException {
+        ObjectReader taskReader = csvMapper.readerFor(TaskRequestDTO.class).with(CsvSchema.emptySchema().withHeader());
+        try (MappingIterator<TaskRequestDTO> rows = taskReader.readValues(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            while (true) {
+                try {
+                    if (!rows.hasNextValue()) {
+                        return;
+                    }
+                    run.add(rows.nextValue());
+                } catch (JsonProcessingException ex) {
+                    run.reject(List.of(INVALID_ROW));
+                    return;
+                }
+            }
+        }
+    }
+
+    /** State of one import: the pending chunk and the running totals. */
+    private class Import {
+        private final boolean publishChanges;
+        private final List<TaskRequestDTO> pending = new ArrayList<>(TaskService.BATCH_CHUNK_SIZE);
+        private final List<TaskImportResultDTO.Rejection> rejections = new ArrayList<>();
+        private long read;
+        private long imported;
+        private long rejected;
+
+        Import(boolean publishChanges) {
+            this.publishChanges = publishChanges;
+        }
+
+        void add(TaskRequestDTO taskRequestDTO) {
+            List<String> errors = validate(taskRequestDTO);
+            if (errors != null) {
+                reject(errors);
+                return;
+            }
+            read++;
+            pending.add(taskRequestDTO);
+            if (pending.size() == TaskService.BATCH_CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        void reject(List<String> errors) {
+            read++;
+            rejected++;
+            if (rejections.size() < MAX_REPORTED_REJECTIONS) {
+                rejections.add(new TaskImportResultDTO.Rejection(read, errors));
+            }
+            meterRegistry.counter(MetricsConfig.TASK_TRANSFER_ROWS, "direction", "import", "outcome", "rejected").increment();
+        }
+
+        void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+            List<TaskDTO> tasks = new ArrayList<>(pending.size());
+            for (TaskRequestDTO taskRequestDTO : pending) {
+                tasks.add(taskShards.newTask(taskRequestDTO, now));
+            }
+            taskShards.insert(tasks);
+            pending.clear();
+
+            long before = imported;
+            imported += tasks.size();
+            meterRegistry.counter(MetricsConfig.TASK_TRANSFER_ROWS, "direction", "import", "outcome", "imported").increment(tasks.size());
+            if (publishChanges) {
+                tasks.forEach(task -> eventPublisher.publishEvent(TaskChangeEvent.created(task)));
+            }
+            if (before / PROGRESS_INTERVAL != imported / PROGRESS_INTERVAL) {
+                logger.info("Imported {} tasks so far ({} rows rejected).", imported, rejected);
+            }
+        }
+    }
+
+    private List<String> validate(TaskRequestDTO taskRequestDTO) {
+        if (taskRequestDTO == null) {
+            return List.of(INVALID_ROW);
+        }
+        Set<ConstraintViolation<TaskRequestDTO>> violations = validator.validate(taskRequestDTO);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.toList());
+    }
+
+    private interface RowWriter {
+        void write(TaskDTO task) throws IOException;
+    }
+
+    /**
+     * Writes every task to {@code output} and returns how many were written. {@code output} is flushed, not closed.
+     * The tasks are in id order; with sharding, in id order within each shard, one shard after the other.
+     */
+    public long exportTasks(OutputStream output, TaskTransferFormat format) throws IOException {
+        BufferedOutputStream buffered = new BufferedOutputStream(output, 64 * 1024);
+        SequenceWriter csvWriter = null;
+        RowWriter rowWriter;
+        if (format == TaskTransferFormat.CSV) {
+            SequenceWriter writer = csvMapper.writerFor(TaskDTO.class).with(CSV_EXPORT_SCHEMA).writeValues(buffered);
+            csvWriter = writer;
+            rowWriter = writer::write;
+        } else {
+            ObjectWriter writer = objectMapper.writerFor(TaskDTO.class);
+            rowWriter = task -> {
+                buffered.write(writer.writeValueAsBytes(task));
+                buffered.write('\n');
+            };
+        }
+
+        long[] exported = {0};
+        try {
+            for (int shard = 0; shard < taskShards.count(); shard++) {
+                taskShards.onShard(shard, () -> {
+                    jdbcTemplate.query(connection -> {
+                        PreparedStatement statement = connection.prepareStatement(EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY,
+                                                                                    ResultSet.CONCUR_READ_ONLY);
+                        statement.setFetchSize(EXPORT_FETCH_SIZE);
+                        return statement;
+                    }, (RowCallbackHandler) resultSet -> {
+                        try {
+                            rowWriter.write(toTaskDTO(resultSet));
+                        } catch (IOException ex) {
+                            throw new UncheckedIOException(ex);
+                        }
+                        if (++exported[0] % PROGRESS_INTERVAL == 0) {
+                            meterRegistry.counter(MetricsConfig.TASK_TRANSFER_ROWS, "direction", "export", "outcome", "exported")
+                                    .increment(PROGRESS_INTERVAL);
+                            logger.info("Exported {} tasks so far.", exported[0]);
+                        }
+                    });
+                    return null;
+                });
+            }
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        if (csvWriter != null) {
+            csvWriter.flush();
+        }
+        buffered.flush();
+
+        meterRegistry.counter(MetricsConfig.TASK_TRANSFER_ROWS, "direction", "export", "outcome", "exported")
+                .increment(exported[0] % PROGRESS_INTERVAL);
+        logger.info("Export finished: {} tasks written.", exported[0]);
+        return exported[0];
+    }
+
+    private static TaskDTO toTaskDTO(ResultSet resultSet) throws SQLException {
+        TaskDTO task = new TaskDTO();
+        task.setId(resultSet.getLong("task_id"));
+        task.setTitle(resultSet.getString("task_title"));
+        task.setDescription(resultSet.getString("task_description"));
+        task.setCreatedAt(resultSet.getObject("created_at", LocalDateTime.class));
+        task.setLastUpdatedAt(resultSet.getObject("updated_at", LocalDateTime.class));
+        return task;
+    }
+}
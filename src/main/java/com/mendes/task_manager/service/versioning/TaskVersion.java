@@ -0,0 +1,83 @@
+package com.mendes.task_manager.service.versioning;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.mendes.task_manager.dto.TaskDTO;
+import com.mendes.task_manager.repository.TaskCollectionVersion;
+
+/**
+ * Strong validators derived from `updated_at`. A task's ETag is its id plus the
+ * microsecond timestamp of its last write, so it can be checked against the row
+ * without loading it; the timestamp is stored at microsecond precision.
+ */
+public final class TaskVersion {
+    private static final String WEAK_PREFIX = "W/";
+    private static final String COLLECTION_PREFIX = "c";
+
+    private TaskVersion() {}
+
+    public static String etag(TaskDTO task) {
+        return quote(task.getId() + "-" + toMicros(task.getLastUpdatedAt()));
+    }
+
+    public static String etag(TaskCollectionVersion version) {
+        return quote(COLLECTION_PREFIX + version.count() + "-" + version.maxId() + "-" + toMicros(version.lastUpdatedAt()));
+    }
+
+    public static long lastModified(LocalDateTime lastUpdatedAt) {
+        if (lastUpdatedAt == null) {
+            return -1;
+        }
+        return lastUpdatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    public static boolean matchesAny(String ifMatch) {
+        return ifMatch != null && ifMatch.trim().equals("*");
+    }
+
+    /**
+     * Reads the `updated_at` values named by an If-Match header for the task {@code id}.
+     * Weak tags and tags of other tasks can never match and are left out.
+     */
+    public static List<LocalDateTime> parseIfMatch(String ifMatch, Long id) {
+        List<LocalDateTime> versions = new ArrayList<>();
+        String prefix = id + "-";
+        for (String tag : ifMatch.split(",")) {
+            tag = tag.trim();
+            if (tag.startsWith(WEAK_PREFIX) || tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+                continue;
+            }
+            String value = tag.substring(1, tag.length() - 1);
+            if (!value.startsWith(prefix)) {
+                continue;
+            }
+            try {
+                versions.add(fromMicros(Long.parseLong(value.substring(prefix.length()))));
+            } catch (NumberFormatException ex) {
+                // Not one of ours; it cannot match the current version.
+            }
+        }
+        return versions;
+    }
+
+    private static String quote(String value) {
+        return "\"" + value + "\"";
+    }
+
+    private static long toMicros(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return 0;
+        }
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + dateTime.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        long seconds = Math.floorDiv(micros, 1_000_000L);
+        int nanos = (int) Math.floorMod(micros, 1_000_000L) * 1_000;
+        return LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,93 @@
+package com.mendes.task_manager.service.warmstart;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import com.mendes.task_manager.configuration.cache.CacheConfig;
+import com.mendes.task_manager.configuration.warmstart.WarmStartProperties;
+import com.mendes.task_manager.dto.TaskDTO;
+import com.mendes.task_manager.dto.TaskField;
+import com.mendes.task_manager.dto.TaskFilter;
+import com.mendes.task_manager.dto.TaskPageDTO;
+import com.mendes.task_manager.dto.TaskSort;
+import com.mendes.task_manager.service.TaskService;
+import com.mendes.task_manager.service.snapshot.TaskPageSnapshotCache;
+
+/**
+ * Fills the caches before the web server starts, so the first requests after a restart of a persistent
+ * database are not all misses. The first list pages go to {@link TaskPageSnapshotCache} and the most
+ * recently updated Tasks, read through the `updated_at` index, to the {@code tasks} cache. Running before
+ * the server also means no request can change a Task while it is being cached.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class TaskWarmStart implements SmartInitializingSingleton {
+    private static final Logger logger = LoggerFactory.getLogger(TaskWarmStart.class);
+
+    private static final int RECENT_TASKS_PAGE_SIZE = 1000;
+    private static final TaskSort RECENTLY_UPDATED = new TaskSort(TaskField.LAST_UPDATED_AT, true);
+
+    @Autowired
+    WarmStartProperties properties;
+
+    @Autowired
+    TaskPageSnapshotCache taskPageSnapshotCache;
+
+    @Autowired
+    TaskService taskService;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (properties.pages() <= 0 && properties.recentTasks() <= 0) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        int pages = loadPages();
+        int tasks = loadRecentTasks();
+        logger.info("Warm start cached {} list pages and {} tasks in {} ms", pages, tasks, System.currentTimeMillis() - start);
+    }
+
+    private int loadPages() {
+        String cursor = null;
+        int loaded = 0;
+        while (loaded < properties.pages()) {
+            cursor = taskPageSnapshotCache.get(cursor, properties.pageSize()).next();
+            loaded++;
+            if (cursor == null) {
+                break;
+            }
+        }
+        return loaded;
+    }
+
+    private int loadRecentTasks() {
+        Cache cache = cacheManager.getCache(CacheConfig.TASKS_CACHE);
+        if (cache == null) {
+            return 0;
+        }
+        String cursor = null;
+        int loaded = 0;
+        while (loaded < properties.recentTasks()) {
+            int limit = Math.min(RECENT_TASKS_PAGE_SIZE, properties.recentTasks() - loaded);
+            TaskPageDTO page = taskService.findTaskPage(TaskFilter.NONE, RECENTLY_UPDATED, cursor, limit, null);
+            for (TaskDTO task : page.tasks()) {
+                cache.put(task.getId(), task);
+            }
+            loaded += page.tasks().size();
+            cursor = page.next();
+            if (cursor == null) {
+                break;
+            }
+        }
+        return loaded;
+    }
+}
@@ -0,0 +1,15 @@
+package com.mendes.task_manager.service.writebehind;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+/** Marks an id that Hibernate takes from {@link TaskIdAllocator} through {@link TaskIdGenerator}. */
+@IdGeneratorType(TaskIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface AllocatedTaskId {
+}
@@ -0,0 +1,37 @@
+package com.mendes.task_manager.service.writebehind;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.mendes.task_manager.model.Task;
+
+/**
+ * Hands out task ids from {@code tb_tasks_seq} without inserting a row: a sequence value {@code hi}
+ * owns the ids {@code [hi - size + 1, hi]}, from 1 up. It is the only reader of the sequence on the
+ * servlet stack; Hibernate inserts take their ids from it too, through {@link TaskIdGenerator}.
+ */
+@Component
+public class TaskIdAllocator {
+    private static final String NEXT_VALUE_SQL = "SELECT NEXT VALUE FOR tb_tasks_seq";
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private long next;
+    private long limit;
+
+    public synchronized long nextId() {
+        if (next >= limit) {
+            reserveBlock();
+        }
+        return next++;
+    }
+
+    private void reserveBlock() {
+        long hi = jdbcTemplate.queryForObject(NEXT_VALUE_SQL, Long.class);
+        // The first value of a fresh sequence is 1, whose block would start below the first id.
+        next = Math.max(1, hi - Task.ID_ALLOCATION_SIZE + 1);
+        limit = hi + 1;
+    }
+}
@@ -0,0 +1,22 @@
+package com.mendes.task_manager.service.writebehind;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Ids of tasks inserted through Hibernate. They come from the same {@link TaskIdAllocator} as the
+ * journal and the sharded inserts: two allocators reading {@code tb_tasks_seq} with different rules
+ * (Hibernate's optimizer reads a fresh sequence twice before handing out ids) could reserve overlapping
+ * blocks. Hibernate creates it through Spring's bean container, which injects the allocator.
+ */
+public class TaskIdGenerator implements IdentifierGenerator {
+
+    @Autowired
+    TaskIdAllocator taskIdAllocator;
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return taskIdAllocator.nextId();
+    }
+}
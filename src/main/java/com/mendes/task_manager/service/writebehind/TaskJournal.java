@@ -0,0 +1,300 @@
+package com.mendes.task_manager.service.writebehind;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * Journal of accepted tasks, backed by a memory-mapped file so an append is a couple of memory
+ * copies. The file is a ring: entries between the flushed and the write offset (both kept in the
+ * file header) are pending, and once the space before the flushed offset has been freed, an entry
+ * that does not fit at the end is written at the start instead. The journal is only full when the
+ * pending entries fill the whole file, however long the flushed and pending ranges keep overlapping.
+ *
+ * <pre>
+ * header: magic (int) | unused (int) | flushed offset (long) | write offset (long)
+ * entry:  payload length (int) | CRC32C of payload (int) | payload
+ * wrap:   -1 (int), or fewer than 8 bytes left before the end of the file
+ * payload: id (long) | created at, epoch micros UTC (long) | title length (int) | title | description length (int) | description
+ * </pre>
+ *
+ * Entries are validated on open, so a record torn by a crash is dropped together with
+ * anything after it. With {@code forceOnAppend}, an append returns only once its entry has
+ * reached the disk; appends that arrive while a force runs wait for the next one, so they
+ * share it (group commit).
+ *
+ * <p>Besides the offsets, the journal counts the bytes appended and flushed since it was
+ * opened, including the bytes skipped at the end of the file when an entry wraps. Those
+ * totals never rewind, so callers can compare them without taking the lock.
+ */
+public class TaskJournal implements Closeable {
+    private static final int MAGIC = 0x544A524E;
+    private static final int FLUSHED_OFFSET = 8;
+    private static final int WRITE_OFFSET = 16;
+    static final int HEADER_SIZE = 24;
+    private static final int ENTRY_HEADER_SIZE = 8;
+    private static final int WRAP_MARKER = -1;
+
+    public record Batch(List<TaskJournalEntry> entries, long endOffset) {
+    }
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final boolean forceOnAppend;
+    private final Object forceLock = new Object();
+    private long flushedOffset;
+    private long writeOffset;
+    private volatile long appendedBytes;
+    private volatile long flushedBytes;
+    private long forcedBytes;
+
+    public TaskJournal(Path path, long capacity, boolean forceOnAppend) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long size = Math.max(capacity, Math.max(channel.size(), HEADER_SIZE));
+        if (size > Integer.MAX_VALUE) {
+            channel.close();
+            throw new IllegalArgumentException("The journal cannot be larger than 2GB.");
+        }
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        this.forceOnAppend = forceOnAppend;
+        recover();
+    }
+
+    private void recover() {
+        if (buffer.getInt(0) != MAGIC) {
+            buffer.putInt(0, MAGIC);
+            writeOffsets(HEADER_SIZE, HEADER_SIZE);
+            buffer.force();
+            return;
+        }
+        flushedOffset = buffer.getLong(FLUSHED_OFFSET);
+        writeOffset = buffer.getLong(WRITE_OFFSET);
+        if (flushedOffset < HEADER_SIZE || writeOffset < HEADER_SIZE
+                || flushedOffset > buffer.capacity() || writeOffset > buffer.capacity()) {
+            throw new IllegalStateException("The task journal header is corrupt.");
+        }
+
+        long offset = flushedOffset;
+        long pending = 0;
+        boolean wrapped = writeOffset < flushedOffset;
+        while (offset != writeOffset) {
+            if (wrapped && wrapsAt(offset)) {
+                pending += buffer.capacity() - offset;
+                offset = HEADER_SIZE;
+                wrapped = false;
+                continue;
+            }
+            long next = validEntryEnd(offset, wrapped ? buffer.capacity() : writeOffset);
+            if (next < 0) {
+                break;
+            }
+            pending += next - offset;
+            offset = next;
+        }
+        if (offset == flushedOffset) {
+            writeOffsets(HEADER_SIZE, HEADER_SIZE);
+        } else if (offset != writeOffset) {
+            writeOffsets(flushedOffset, offset);
+        }
+        appendedBytes = offset == flushedOffset ? 0 : pending;
+        forcedBytes = appendedBytes;
+    }
+
+    public boolean append(TaskJournalEntry entry) {
+        byte[] title = entry.title().getBytes(StandardCharsets.UTF_8);
+        byte[] description = entry.description().getBytes(StandardCharsets.UTF_8);
+        int payloadLength = 16 + 4 + title.length + 4 + description.length;
+
+        ByteBuffer payload = ByteBuffer.allocate(payloadLength);
+        payload.putLong(entry.id());
+        payload.putLong(toMicros(entry.createdAt()));
+        payload.putInt(title.length).put(title);
+        payload.putInt(description.length).put(description);
+
+        CRC32C crc = new CRC32C();
+        crc.update(payload.array());
+
+        long appended;
+        synchronized (this) {
+            int size = ENTRY_HEADER_SIZE + payloadLength;
+            long position = writeOffset;
+            long skipped = 0;
+            if (writeOffset >= flushedOffset && position + size > buffer.capacity()) {
+                // The write offset may never catch up with the flushed one: equal offsets mean empty.
+                if (HEADER_SIZE + size >= flushedOffset) {
+                    return false;
+                }
+                skipped = buffer.capacity() - position;
+                position = HEADER_SIZE;
+            } else if (writeOffset < flushedOffset && position + size >= flushedOffset) {
+                return false;
+            }
+
+            if (skipped >= ENTRY_HEADER_SIZE) {
+                buffer.putInt((int) writeOffset, WRAP_MARKER);
+            }
+            buffer.putInt((int) position, payloadLength);
+            buffer.putInt((int) position + 4, (int) crc.getValue());
+            buffer.put((int) position + ENTRY_HEADER_SIZE, payload.array());
+            // The entry becomes visible to recovery only once the write offset moves past it.
+            writeOffsets(flushedOffset, position + size);
+            appendedBytes += skipped + size;
+            appended = appendedBytes;
+        }
+        if (forceOnAppend) {
+            force(appended);
+        }
+        return true;
+    }
+
+    /** Forces the file unless a force that started after {@code appended} bytes were written already did. */
+    private void force(long appended) {
+        synchronized (forceLock) {
+            if (forcedBytes >= appended) {
+                return;
+            }
+            long covered = appendedBytes;
+            buffer.force();
+            forcedBytes = covered;
+        }
+    }
+
+    public Batch readPending(int maxEntries) {
+        return readPending(maxEntries, Long.MAX_VALUE);
+    }
+
+    /**
+     * Reads at most {@code maxEntries} pending entries, leaving out those appended after
+     * {@link #appendedBytes()} returned {@code upTo}.
+     */
+    public synchronized Batch readPending(int maxEntries, long upTo) {
+        List<TaskJournalEntry> entries = new ArrayList<>();
+        long offset = flushedOffset;
+        long read = flushedBytes;
+        while (offset != writeOffset && entries.size() < maxEntries && read < upTo) {
+            if (wrapsAt(offset)) {
+                read += buffer.capacity() - offset;
+                offset = HEADER_SIZE;
+                continue;
+            }
+            int position = (int) offset;
+            int payloadLength = buffer.getInt(position);
+            entries.add(decode(buffer.slice(position + ENTRY_HEADER_SIZE, payloadLength)));
+            offset += ENTRY_HEADER_SIZE + payloadLength;
+            read += ENTRY_HEADER_SIZE + payloadLength;
+        }
+        return new Batch(entries, offset);
+    }
+
+    public synchronized void markFlushed(long offset) {
+        // An offset below the flushed one lies past the wrap, after the bytes skipped at the end.
+        long released = offset >= flushedOffset ? offset - flushedOffset
+                                                : buffer.capacity() - flushedOffset + offset - HEADER_SIZE;
+        if (offset < HEADER_SIZE || offset > buffer.capacity() || released > appendedBytes - flushedBytes) {
+            throw new IllegalArgumentException("Offset " + offset + " is outside of the pending entries.");
+        }
+        flushedBytes += released;
+        if (offset == writeOffset) {
+            // Nothing is pending any more, so new entries can reuse the space from the start.
+            writeOffsets(HEADER_SIZE, HEADER_SIZE);
+        } else {
+            writeOffsets(offset, writeOffset);
+        }
+        buffer.force();
+    }
+
+    public long pendingBytes() {
+        // Flushed first: appendedBytes only grows, so the difference cannot go negative.
+        long flushed = flushedBytes;
+        return appendedBytes - flushed;
+    }
+
+    /** Bytes appended since the journal was opened, including the entries it recovered. */
+    public long appendedBytes() {
+        return appendedBytes;
+    }
+
+    /** Bytes flushed since the journal was opened. */
+    public long flushedBytes() {
+        return flushedBytes;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    private void writeOffsets(long flushed, long write) {
+        flushedOffset = flushed;
+        writeOffset = write;
+        buffer.putLong(FLUSHED_OFFSET, flushed);
+        buffer.putLong(WRITE_OFFSET, write);
+    }
+
+    /** Whether the entry at {@code offset} continues at the start of the file. */
+    private boolean wrapsAt(long offset) {
+        return buffer.capacity() - offset < ENTRY_HEADER_SIZE || buffer.getInt((int) offset) == WRAP_MARKER;
+    }
+
+    private long validEntryEnd(long offset, long limit) {
+        if (offset + ENTRY_HEADER_SIZE > limit) {
+            return -1;
+        }
+        int position = (int) offset;
+        int payloadLength = buffer.getInt(position);
+        if (payloadLength <= 0 || offset + ENTRY_HEADER_SIZE + payloadLength > limit) {
+            return -1;
+        }
+        ByteBuffer payload = buffer.slice(position + ENTRY_HEADER_SIZE, payloadLength);
+        CRC32C crc = new CRC32C();
+        crc.update(payload.duplicate());
+        if ((int) crc.getValue() != buffer.getInt(position + 4)) {
+            return -1;
+        }
+        try {
+            decode(payload);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException | NegativeArraySizeException ex) {
+            return -1;
+        }
+        return offset + ENTRY_HEADER_SIZE + payloadLength;
+    }
+
+    private static TaskJournalEntry decode(ByteBuffer payload) {
+        long id = payload.getLong();
+        LocalDateTime createdAt = fromMicros(payload.getLong());
+        String title = readString(payload);
+        String description = readString(payload);
+        return new TaskJournalEntry(id, title, description, createdAt);
+    }
+
+    private static String readString(ByteBuffer payload) {
+        byte[] bytes = new byte[payload.getInt()];
+        payload.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static long toMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + dateTime.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,15 @@
+package com.mendes.task_manager.service.writebehind;
+
+import java.time.LocalDateTime;
+
+/**
+ * A task accepted by the write-behind path but not necessarily in {@code tb_tasks} yet.
+ * Its id is already reserved from the table sequence.
+ */
+public record TaskJournalEntry(
+    long id,
+    String title,
+    String description,
+    LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,8 @@
+package com.mendes.task_manager.service.writebehind;
+
+/**
+ * Published after journaled tasks have been written to {@code tb_tasks}. Their
+ * {@code TaskChangeEvent}s went out when they were accepted, before table reads could see them.
+ */
+public record TaskJournalFlushedEvent(int count) {
+}
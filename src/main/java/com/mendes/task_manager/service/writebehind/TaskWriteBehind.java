@@ -0,0 +1,167 @@
+package com.mendes.task_manager.service.writebehind;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.mendes.task_manager.configuration.metrics.MetricsConfig;
+import com.mendes.task_manager.configuration.writebehind.WriteBehindProperties;
+import com.mendes.task_manager.dto.TaskDTO;
+import com.mendes.task_manager.dto.TaskRequestDTO;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Opt-in write-behind path for task creation ({@code task-manager.write-behind.enabled}).
+ * A new task gets an id from {@link TaskIdAllocator}, is appended to the {@link TaskJournal}
+ * and acknowledged; a scheduled flusher later moves the journal into {@code tb_tasks} in JDBC
+ * batches. The insert is an upsert keyed on the id, so replaying entries after a crash between
+ * the insert and the journal checkpoint is harmless.
+ */
+@Component
+public class TaskWriteBehind {
+    private static final Logger logger = LoggerFactory.getLogger(TaskWriteBehind.class);
+    private static final String MERGE_SQL = "MERGE INTO tb_tasks (task_id, task_title, task_description, created_at, updated_at) "
+                                          + "KEY (task_id) VALUES (?, ?, ?, ?, ?)";
+
+    @Autowired
+    WriteBehindProperties properties;
+
+    @Autowired
+    TaskIdAllocator taskIdAllocator;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    ApplicationEventPublisher eventPublisher;
+
+    private TaskJournal journal;
+
+    @PostConstruct
+    void open() throws IOException {
+        if (!properties.enabled()) {
+            return;
+        }
+        journal = new TaskJournal(properties.journalPath(), properties.journalCapacity().toBytes(), properties.forceOnAppend());
+        Gauge.builder(MetricsConfig.TASK_JOURNAL_PENDING, journal, TaskJournal::pendingBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return journal != null;
+    }
+
+    /**
+     * Journals a new task and returns it with its final id, or null when the journal
+     * is full and the caller has to insert it directly.
+     */
+    public TaskDTO enqueue(TaskRequestDTO taskRequestDTO) {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        TaskJournalEntry entry = new TaskJournalEntry(taskIdAllocator.nextId(), taskRequestDTO.getTitle(),
+                                                        taskRequestDTO.getDescription(), now);
+        if (!journal.append(entry)) {
+            return null;
+        }
+
+        TaskDTO taskDTO = new TaskDTO();
+        taskDTO.setId(entry.id());
+        taskDTO.setTitle(entry.title());
+        taskDTO.setDescription(entry.description());
+        taskDTO.setCreatedAt(entry.createdAt());
+        taskDTO.setLastUpdatedAt(entry.createdAt());
+        return taskDTO;
+    }
+
+    /** Recovers whatever a previous run acknowledged but did not flush. */
+    @EventListener(ContextRefreshedEvent.class)
+    public void replay() {
+        if (!isEnabled()) {
+            return;
+        }
+        int replayed = flush();
+        if (replayed > 0) {
+            logger.info("Replayed {} journaled tasks into tb_tasks.", replayed);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${task-manager.write-behind.flush-interval-ms:200}")
+    public void scheduledFlush() {
+        try {
+            flush();
+        } catch (DataAccessException ex) {
+            logger.warn("Flushing the task journal failed, the entries are kept for the next run.", ex);
+        }
+    }
+
+    /**
+     * Writes the entries pending when called to {@code tb_tasks}; returns how many were written.
+     * Entries appended meanwhile are left for the next call, so a caller never waits on tasks
+     * that arrived after it did, and an empty journal is seen without taking the flush lock.
+     */
+    public int flush() {
+        if (!isEnabled()) {
+            return 0;
+        }
+        long upTo = journal.appendedBytes();
+        if (journal.flushedBytes() >= upTo) {
+            return 0;
+        }
+        return flushUpTo(upTo);
+    }
+
+    private synchronized int flushUpTo(long upTo) {
+        int flushed = 0;
+        // Whoever held the lock before may already have written everything this caller waited for.
+        while (journal.flushedBytes() < upTo) {
+            TaskJournal.Batch batch = journal.readPending(properties.batchSize(), upTo);
+            // A batch can be empty when all it releases is the space skipped where the journal wrapped.
+            if (!batch.entries().isEmpty()) {
+                jdbcTemplate.batchUpdate(MERGE_SQL, batch.entries(), batch.entries().size(), (statement, entry) -> {
+                    statement.setLong(1, entry.id());
+                    statement.setString(2, entry.title());
+                    statement.setString(3, entry.description());
+                    statement.setObject(4, entry.createdAt());
+                    statement.setObject(5, entry.createdAt());
+                });
+            }
+            journal.markFlushed(batch.endOffset());
+            flushed += batch.entries().size();
+        }
+        if (flushed > 0) {
+            eventPublisher.publishEvent(new TaskJournalFlushedEvent(flushed));
+        }
+        return flushed;
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            flush();
+        } catch (DataAccessException ex) {
+            logger.warn("Could not flush the task journal on shutdown, it will be replayed on the next start.", ex);
+        }
+        journal.close();
+    }
+}
@@ -0,0 +1,14 @@
+CREATE SEQUENCE tb_tasks_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE tb_tasks (
+    task_id BIGINT NOT NULL,
+    task_title VARCHAR(50) NOT NULL,
+    task_description VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (task_id)
+);
+
+CREATE INDEX ix_tb_tasks_title ON tb_tasks (task_title, task_id);
+CREATE INDEX ix_tb_tasks_created_at ON tb_tasks (created_at, task_id);
+CREATE INDEX ix_tb_tasks_updated_at ON tb_tasks (updated_at, task_id);
@@ -0,0 +1,100 @@
+package com.mendes.task_manager.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.servlet.mvc.method.annotation.ExceptionHandlerExceptionResolver;
+
+import com.mendes.task_manager.dto.TaskRequestDTO;
+import com.mendes.task_manager.exception.GlobalExceptionHandler;
+import com.mendes.task_manager.exception.TaskNotFoundException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Cost of turning the most common failures into {@code ResponseError} bodies, including building the
+ * exception itself (stack trace capture included), since both happen on every failed request. The
+ * exceptions go through an {@link ExceptionHandlerExceptionResolver}, as they do in the application,
+ * so handler lookup and writing the JSON body are measured too.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GlobalExceptionHandlerBenchmark {
+
+    private ExceptionHandlerExceptionResolver resolver;
+    private MethodParameter parameter;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        GlobalExceptionHandler handler = new GlobalExceptionHandler();
+        ReflectionTestUtils.setField(handler, "meterRegistry", new SimpleMeterRegistry());
+        StaticApplicationContext context = new StaticApplicationContext();
+        context.getBeanFactory().registerSingleton("globalExceptionHandler", handler);
+        context.refresh();
+
+        resolver = new ExceptionHandlerExceptionResolver();
+        resolver.setApplicationContext(context);
+        resolver.setMessageConverters(List.of(new MappingJackson2HttpMessageConverter(Jackson2ObjectMapperBuilder.json().build())));
+        resolver.afterPropertiesSet();
+        parameter = new MethodParameter(GlobalExceptionHandlerBenchmark.class.getDeclaredMethod("target", TaskRequestDTO.class, Long.class), 0);
+    }
+
+    private MockHttpServletResponse resolve(Exception ex) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        if (resolver.resolveException(new MockHttpServletRequest(), response, null, ex) == null) {
+            throw new IllegalStateException("No handler for " + ex.getClass().getName());
+        }
+        return response;
+    }
+
+    @SuppressWarnings("unused")
+    private void target(TaskRequestDTO taskRequestDTO, Long id) {}
+
+    @Benchmark
+    public MockHttpServletResponse taskNotFound() {
+        return resolve(new TaskNotFoundException(1L));
+    }
+
+    @Benchmark
+    public MockHttpServletResponse methodArgumentNotValid() {
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new TaskRequestDTO(), "taskRequestDTO");
+        bindingResult.addError(new FieldError("taskRequestDTO", "title", "The field `title` cannot be empty."));
+        bindingResult.addError(new FieldError("taskRequestDTO", "description", "The field `description` cannot be empty."));
+        return resolve(new MethodArgumentNotValidException(parameter, bindingResult));
+    }
+
+    @Benchmark
+    public MockHttpServletResponse methodArgumentTypeMismatch() {
+        return resolve(new MethodArgumentTypeMismatchException("invalidID", Long.class, "id", parameter, null));
+    }
+
+    @Benchmark
+    public MockHttpServletResponse generalException() {
+        return resolve(new IllegalStateException("Unexpected failure"));
+    }
+}
@@ -0,0 +1,163 @@
+package com.mendes.task_manager.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.mendes.task_manager.TaskManagerApplication;
+
+/**
+ * Closed-loop load test comparing the default platform-thread mode with the {@code virtual-threads} and
+ * {@code reactive} profiles. Each mode boots the application on a random port, seeds it through the batch
+ * endpoint and then keeps {@code concurrency} clients calling {@code GET /api/tasks} for {@code seconds}.
+ *
+ * <p>Besides throughput and latency it reports requests per CPU-second, the peak heap and the peak number of
+ * platform threads while the load runs. Clients share the JVM, so those figures include their (constant) share.
+ *
+ * <p>Usage: {@code TaskApiLoadBenchmark [concurrency=2000] [seconds=30] [modes=platform,virtual-threads,reactive]}
+ */
+public class TaskApiLoadBenchmark {
+
+    private static final int SEED_TASKS = 5000;
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 30;
+        List<String> modes = args.length > 2 ? Arrays.asList(args[2].split(",")) : List.of("platform", "virtual-threads", "reactive");
+
+        System.out.printf("%-16s %12s %12s %12s %12s %12s %12s %12s%n",
+                            "mode", "requests", "errors", "req/s", "req/cpu-s", "p99 (ms)", "heap (MB)", "threads");
+        for (String mode : modes) {
+            Result result = run(mode, concurrency, seconds);
+            System.out.printf("%-16s %12d %12d %12.1f %12.1f %12.2f %12d %12d%n",
+                                mode, result.requests(), result.errors(), result.throughput(), result.perCpuSecond(),
+                                result.p99Millis(), result.peakHeapBytes() / (1024 * 1024), result.peakThreads());
+        }
+    }
+
+    private static Result run(String mode, int concurrency, int seconds) throws Exception {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(TaskManagerApplication.class)
+                                                .properties("server.port=0", "spring.jpa.show-sql=false");
+        if (!"platform".equals(mode)) {
+            builder.profiles(mode);
+        }
+
+        try (ConfigurableApplicationContext context = builder.run()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String baseUri = String.format("http://localhost:%s/api/tasks", port);
+
+            // The client side always uses virtual threads so that it is never the bottleneck being measured.
+            try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+                HttpClient httpClient = HttpClient.newBuilder().executor(clients).connectTimeout(Duration.ofSeconds(5)).build();
+                seed(httpClient, baseUri);
+                return load(httpClient, clients, baseUri + "?limit=20", concurrency, seconds);
+            }
+        }
+    }
+
+    private static void seed(HttpClient httpClient, String baseUri) throws Exception {
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < SEED_TASKS; i++) {
+            body.append(i == 0 ? "" : ",")
+                .append(String.format("{\"title\":\"Load title %s\",\"description\":\"Load description %s\"}", i, i));
+        }
+        body.append("]");
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUri + "/batch"))
+                                    .header("Content-Type", "application/json")
+                                    .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                                    .build();
+        httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+    }
+
+    private static Result load(HttpClient httpClient, ExecutorService clients, String uri, int concurrency, int seconds)
+            throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(uri)).GET().build();
+        // Start the heap sample from what the application retains, not from the previous mode's garbage.
+        System.gc();
+        Resources resources = new Resources();
+        long cpuStart = processCpuNanos();
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        AtomicLong errors = new AtomicLong();
+
+        List<Future<long[]>> futures = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(clients.submit(() -> {
+                long[] latencies = new long[1024];
+                int count = 0;
+                while (System.nanoTime() < deadline) {
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception ex) {
+                        errors.incrementAndGet();
+                    }
+                    if (count == latencies.length) {
+                        latencies = Arrays.copyOf(latencies, count * 2);
+                    }
+                    latencies[count++] = System.nanoTime() - start;
+                }
+                return Arrays.copyOf(latencies, count);
+            }));
+        }
+
+        List<long[]> perClient = new ArrayList<>(concurrency);
+        for (Future<long[]> future : futures) {
+            perClient.add(future.get());
+        }
+        double cpuSeconds = (processCpuNanos() - cpuStart) / 1_000_000_000.0;
+        resources.close();
+
+        long[] all = perClient.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        double p99Millis = all.length == 0 ? 0 : all[(int) Math.min(all.length - 1, Math.ceil(all.length * 0.99) - 1)] / 1_000_000.0;
+        return new Result(all.length, errors.get(), all.length / (double) seconds,
+                            cpuSeconds <= 0 ? 0 : all.length / cpuSeconds, p99Millis, resources.peakHeapBytes.get(),
+                            resources.peakThreads.get());
+    }
+
+    private static long processCpuNanos() {
+        return ManagementFactory.getPlatformMXBean(com.sun.management.OperatingSystemMXBean.class).getProcessCpuTime();
+    }
+
+    /** Samples heap usage and the live platform thread count every 100 ms, keeping the peaks. */
+    private static class Resources implements AutoCloseable {
+        private final AtomicLong peakHeapBytes = new AtomicLong();
+        private final AtomicLong peakThreads = new AtomicLong();
+        private final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+
+        Resources() {
+            sampler.scheduleAtFixedRate(() -> {
+                peakHeapBytes.accumulateAndGet(ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed(), Math::max);
+                peakThreads.accumulateAndGet(ManagementFactory.getThreadMXBean().getThreadCount(), Math::max);
+            }, 0, 100, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public void close() {
+            sampler.shutdownNow();
+        }
+    }
+
+    private record Result(long requests, long errors, double throughput, double perCpuSecond, double p99Millis,
+                            long peakHeapBytes, long peakThreads) {
+    }
+}
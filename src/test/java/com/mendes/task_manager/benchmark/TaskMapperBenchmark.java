@@ -0,0 +1,80 @@
+package com.mendes.task_manager.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.mendes.task_manager.dto.TaskDTO;
+import com.mendes.task_manager.dto.TaskRequestDTO;
+import com.mendes.task_manager.dto.mapper.TaskMapper;
+import com.mendes.task_manager.model.Task;
+
+/**
+ * Compares the hand-specialized {@link TaskMapper} against the reflective ModelMapper path it replaced.
+ * Run {@link #main(String[])} to get throughput together with the GC profiler's allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskMapperBenchmark {
+
+    private TaskMapper taskMapper;
+    private ModelMapper modelMapper;
+    private Task task;
+    private TaskRequestDTO taskRequestDTO;
+
+    @Setup
+    public void setUp() {
+        taskMapper = new TaskMapper();
+        modelMapper = new ModelMapper();
+
+        task = new Task(1L, "Benchmark title", "Benchmark description",
+                        LocalDateTime.of(2024, 1, 1, 0, 0, 0), LocalDateTime.of(2024, 1, 2, 0, 0, 0));
+        taskRequestDTO = new TaskRequestDTO(task);
+    }
+
+    @Benchmark
+    public TaskDTO toTaskDTO_taskMapper() {
+        return taskMapper.toTaskDTO(task);
+    }
+
+    @Benchmark
+    public TaskDTO toTaskDTO_modelMapper() {
+        return modelMapper.map(task, TaskDTO.class);
+    }
+
+    @Benchmark
+    public Task toTaskEntity_taskMapper() {
+        return taskMapper.toTaskEntity(taskRequestDTO);
+    }
+
+    @Benchmark
+    public Task toTaskEntity_modelMapper() {
+        return modelMapper.map(taskRequestDTO, Task.class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TaskMapperBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
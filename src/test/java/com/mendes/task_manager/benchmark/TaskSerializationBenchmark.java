@@ -0,0 +1,66 @@
+package com.mendes.task_manager.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.mendes.task_manager.dto.TaskDTO;
+
+/**
+ * Jackson serialization of a {@code List<TaskDTO>} page, using an {@link ObjectMapper} configured the way
+ * Spring MVC configures the one behind the task endpoints.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskSerializationBenchmark {
+
+    @Param({"1", "100", "1000"})
+    public int size;
+
+    private ObjectWriter listWriter;
+    private List<TaskDTO> tasks;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        listWriter = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, TaskDTO.class));
+
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0, 0);
+        tasks = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            TaskDTO dto = new TaskDTO();
+            dto.setId(id);
+            dto.setTitle("Benchmark title " + id);
+            dto.setDescription("Benchmark description " + id);
+            dto.setCreatedAt(createdAt);
+            dto.setLastUpdatedAt(createdAt.plusSeconds(id));
+            tasks.add(dto);
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeTaskList() throws JsonProcessingException {
+        return listWriter.writeValueAsBytes(tasks);
+    }
+}
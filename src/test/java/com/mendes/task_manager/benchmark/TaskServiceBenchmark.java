@@ -0,0 +1,84 @@
+package com.mendes.task_manager.benchmark;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.mendes.task_manager.TaskManagerApplication;
+import com.mendes.task_manager.dto.TaskDTO;
+import com.mendes.task_manager.service.TaskService;
+
+/**
+ * Measures {@link TaskService#findAllTasks()} end to end (query, hydration and mapping) against an
+ * in-memory H2 database seeded with {@code rows} tasks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TaskServiceBenchmark {
+
+    private static final int INSERT_BATCH_SIZE = 10000;
+
+    @Param({"1000", "100000", "1000000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(TaskManagerApplication.class)
+                        .web(WebApplicationType.NONE)
+                        .properties("spring.jpa.show-sql=false",
+                                    "spring.datasource.url=jdbc:h2:mem:task-service-benchmark-" + rows)
+                        .run();
+        taskService = context.getBean(TaskService.class);
+        seed(context.getBean(JdbcTemplate.class), rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TaskDTO> findAllTasks() {
+        return taskService.findAllTasks();
+    }
+
+    static void seed(JdbcTemplate jdbcTemplate, int rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String sql = "INSERT INTO tb_tasks (task_id, task_title, task_description, created_at, updated_at) VALUES (?, ?, ?, ?, ?)";
+
+        for (int from = 1; from <= rows; from += INSERT_BATCH_SIZE) {
+            List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+            for (long id = from; id < from + INSERT_BATCH_SIZE && id <= rows; id++) {
+                batch.add(new Object[] { id, "Benchmark title " + id, "Benchmark description " + id, now, now });
+            }
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+    }
+}
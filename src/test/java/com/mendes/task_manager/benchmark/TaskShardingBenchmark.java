@@ -0,0 +1,161 @@
+package com.mendes.task_manager.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.mendes.task_manager.TaskManagerApplication;
+import com.mendes.task_manager.dto.TaskFilter;
+import com.mendes.task_manager.dto.TaskRequestDTO;
+import com.mendes.task_manager.dto.TaskSort;
+import com.mendes.task_manager.service.TaskService;
+
+/**
+ * Scaling of the {@code sharded} profile from 1 to N in-memory H2 shards. For each shard count the
+ * application is started without a web server or caches, seeded with {@code tasks} rows through the batch
+ * path, and then measured:
+ *
+ * <ul>
+ *   <li>{@code inserts/s} and {@code updates/s}: {@code threads} callers creating tasks, then updating random
+ *       ones, for {@code seconds} each. Every shard is a database of its own, so writes on different shards do
+ *       not contend on the same store.</li>
+ *   <li>{@code reads/s}: the same callers reading random tasks by id, which touches a single shard.</li>
+ *   <li>{@code page (ms)} and {@code findAll (ms)}: mean latency of a 100 task page sorted by {@code -title},
+ *       which is scattered to every shard and merged, and of reading the whole table.</li>
+ * </ul>
+ *
+ * <p>All shards live in this JVM and share its cores, so the figures show what routing and contention cost,
+ * not what separate database servers would add.
+ *
+ * <p>Usage: {@code TaskShardingBenchmark [shards=1,2,4,8] [threads=16] [seconds=5] [tasks=100000]}
+ */
+public class TaskShardingBenchmark {
+
+    private static final int SEED_BATCH = 1000;
+    private static final int PAGE_RUNS = 200;
+    private static final int FIND_ALL_RUNS = 5;
+
+    public static void main(String[] args) throws Exception {
+        List<Integer> shardCounts = args.length > 0
+                                    ? Arrays.stream(args[0].split(",")).map(Integer::valueOf).toList()
+                                    : List.of(1, 2, 4, 8);
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+        int tasks = args.length > 3 ? Integer.parseInt(args[3]) : 100_000;
+
+        // A first, unreported round compiles the hot paths, which would otherwise be charged to the first shard count.
+        run(shardCounts.get(0), threads, seconds, tasks);
+        System.out.printf("%-8s %12s %12s %12s %12s %14s%n", "shards", "inserts/s", "updates/s", "reads/s", "page (ms)", "findAll (ms)");
+        for (int shards : shardCounts) {
+            Result result = run(shards, threads, seconds, tasks);
+            System.out.printf("%-8d %12.0f %12.0f %12.0f %12.2f %14.1f%n", shards, result.inserts(), result.updates(),
+                                result.reads(), result.pageMillis(), result.findAllMillis());
+        }
+    }
+
+    private static Result run(int shards, int threads, int seconds, int tasks) throws Exception {
+        try (ConfigurableApplicationContext context = start(shards)) {
+            TaskService taskService = context.getBean(TaskService.class);
+            long[] ids = seed(taskService, tasks);
+            long minId = ids[0];
+            long range = ids[1] - ids[0] + 1;
+
+            double inserts = throughput(threads, seconds, random -> taskService.saveTask(request("Inserted " + random)));
+            double updates = throughput(threads, seconds, random ->
+                                taskService.updateTask(minId + Math.floorMod(random, range), request("Updated " + random)));
+            double reads = throughput(threads, seconds, random -> taskService.findTaskById(minId + Math.floorMod(random, range)));
+
+            TaskSort byTitle = TaskSort.parse("-title");
+            TaskFilter noFilter = TaskFilter.parse(null, null, null, null, null);
+            double pageMillis = meanMillis(PAGE_RUNS, () -> taskService.findTaskPage(noFilter, byTitle, null, 100, null));
+            double findAllMillis = meanMillis(FIND_ALL_RUNS, taskService::findAllTasks);
+            return new Result(inserts, updates, reads, pageMillis, findAllMillis);
+        }
+    }
+
+    private static ConfigurableApplicationContext start(int shards) {
+        // The pools close the databases with the context, so every round starts from empty shards.
+        String urls = IntStream.range(0, shards)
+                        .mapToObj(shard -> "jdbc:h2:mem:sharding-benchmark-" + shard)
+                        .collect(Collectors.joining(","));
+        return new SpringApplicationBuilder(TaskManagerApplication.class)
+                    .profiles("sharded")
+                    .properties("spring.main.web-application-type=none")
+                    // Command line arguments, so they take precedence over application.properties.
+                    .run("--task-manager.sharding.urls=" + urls, "--spring.cache.type=none",
+                            "--task-manager.slow-query.enabled=false", "--logging.level.root=warn");
+    }
+
+    /** Creates {@code tasks} rows and returns their lowest and highest id, between which ids are contiguous. */
+    private static long[] seed(TaskService taskService, int tasks) {
+        long minId = Long.MAX_VALUE;
+        long maxId = 0;
+        for (int from = 0; from < tasks; from += SEED_BATCH) {
+            List<TaskRequestDTO> batch = new ArrayList<>();
+            for (int i = from; i < Math.min(tasks, from + SEED_BATCH); i++) {
+                batch.add(request("Seeded " + i));
+            }
+            for (var result : taskService.saveTasks(batch)) {
+                minId = Math.min(minId, result.id());
+                maxId = Math.max(maxId, result.id());
+            }
+        }
+        return new long[] {minId, maxId};
+    }
+
+    private static TaskRequestDTO request(String title) {
+        TaskRequestDTO taskRequestDTO = new TaskRequestDTO();
+        taskRequestDTO.setTitle(title);
+        taskRequestDTO.setDescription("Description of " + title);
+        return taskRequestDTO;
+    }
+
+    /** Operations per second of {@code threads} callers running {@code operation} in a loop for {@code seconds}. */
+    private static double throughput(int threads, int seconds, LongConsumer operation) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Long>> callers = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                callers.add(executor.submit(() -> {
+                    long operations = 0;
+                    while (System.nanoTime() < deadline) {
+                        operation.accept(ThreadLocalRandom.current().nextLong(Long.MAX_VALUE));
+                        operations++;
+                    }
+                    return operations;
+                }));
+            }
+            long total = 0;
+            for (Future<Long> caller : callers) {
+                total += caller.get();
+            }
+            return total / (double) seconds;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static double meanMillis(int runs, Runnable operation) {
+        operation.run();
+        long start = System.nanoTime();
+        for (int i = 0; i < runs; i++) {
+            operation.run();
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / runs;
+    }
+
+    private record Result(double inserts, double updates, double reads, double pageMillis, double findAllMillis) {
+    }
+}
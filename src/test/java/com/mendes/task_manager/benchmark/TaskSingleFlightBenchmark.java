@@ -0,0 +1,153 @@
+package com.mendes.task_manager.benchmark;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.sql.DataSource;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import com.mendes.task_manager.TaskManagerApplication;
+import com.mendes.task_manager.dto.TaskRequestDTO;
+import com.mendes.task_manager.service.TaskService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Thundering herd on a single Task, with and without {@code task-manager.single-flight.enabled}. The
+ * application is started without a web server or caches, so every {@code findTaskById} reaches the service
+ * body, and {@code threads} callers are released at once on the same id, {@code rounds} times. For each mode
+ * it reports:
+ *
+ * <ul>
+ *   <li>{@code queries/round}: statements prepared per herd, from the Hibernate statistics. Without single-flight
+ *       this is one per caller; with it, one per load that was not joined.</li>
+ *   <li>{@code p50}, {@code p99} and {@code max (ms)}: latency of a single call, from release to result, so it
+ *       includes the time spent waiting on the shared load or queueing for a pool connection.</li>
+ * </ul>
+ *
+ * <p>An in-memory H2 query never waits, so on few cores the callers would simply run one after the other. Each
+ * connection therefore waits {@code latencyMicros} before it is handed out, standing in for the round trip to a
+ * database server, during which the other callers of the herd arrive.
+ *
+ * <p>Usage: {@code TaskSingleFlightBenchmark [threads=200] [rounds=200] [latencyMicros=1000]}
+ */
+public class TaskSingleFlightBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        long latencyNanos = TimeUnit.MICROSECONDS.toNanos(args.length > 2 ? Long.parseLong(args[2]) : 1000);
+
+        // A first, unreported round compiles the hot paths, which would otherwise be charged to the first mode.
+        run(false, threads, rounds, latencyNanos);
+        System.out.printf("%-14s %14s %10s %10s %10s%n", "single-flight", "queries/round", "p50 (ms)", "p99 (ms)", "max (ms)");
+        for (boolean singleFlight : new boolean[] {false, true}) {
+            Result result = run(singleFlight, threads, rounds, latencyNanos);
+            System.out.printf("%-14s %14.1f %10.2f %10.2f %10.2f%n", singleFlight ? "on" : "off", result.queriesPerRound(),
+                                result.p50Millis(), result.p99Millis(), result.maxMillis());
+        }
+    }
+
+    private static Result run(boolean singleFlight, int threads, int rounds, long latencyNanos) throws Exception {
+        try (ConfigurableApplicationContext context = start(singleFlight, latencyNanos)) {
+            TaskService taskService = context.getBean(TaskService.class);
+            Long id = taskService.saveTask(request("Popular task")).getId();
+            Statistics statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                statistics.clear();
+                long[] latencies = new long[threads * rounds];
+                for (int round = 0; round < rounds; round++) {
+                    long[] herd = herd(executor, threads, () -> taskService.findTaskById(id));
+                    System.arraycopy(herd, 0, latencies, round * threads, threads);
+                }
+                Arrays.sort(latencies);
+                return new Result(statistics.getPrepareStatementCount() / (double) rounds,
+                                    percentileMillis(latencies, 0.50), percentileMillis(latencies, 0.99),
+                                    latencies[latencies.length - 1] / 1_000_000.0);
+            } finally {
+                executor.shutdown();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext start(boolean singleFlight, long latencyNanos) {
+        return new SpringApplicationBuilder(TaskManagerApplication.class)
+                    .properties("spring.main.web-application-type=none")
+                    .initializers(context -> context.getBeanFactory().addBeanPostProcessor(new BeanPostProcessor() {
+                        @Override
+                        public Object postProcessAfterInitialization(Object bean, String beanName) {
+                            return bean instanceof DataSource dataSource ? withLatency(dataSource, latencyNanos) : bean;
+                        }
+                    }))
+                    // Command line arguments, so they take precedence over application.properties.
+                    .run("--task-manager.single-flight.enabled=" + singleFlight, "--spring.cache.type=none",
+                            "--spring.datasource.url=jdbc:h2:mem:single-flight-benchmark",
+                            "--task-manager.slow-query.enabled=false", "--logging.level.root=warn");
+    }
+
+    private static DataSource withLatency(DataSource dataSource, long latencyNanos) {
+        return new DelegatingDataSource(dataSource) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                LockSupport.parkNanos(latencyNanos);
+                return super.getConnection();
+            }
+        };
+    }
+
+    /** Releases {@code threads} callers of {@code read} at once and returns the latency of each, in nanoseconds. */
+    private static long[] herd(ExecutorService executor, int threads, Runnable read) throws Exception {
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<Long>> callers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            callers.add(executor.submit(() -> {
+                ready.countDown();
+                release.await();
+                long start = System.nanoTime();
+                read.run();
+                return System.nanoTime() - start;
+            }));
+        }
+        ready.await();
+        release.countDown();
+
+        long[] latencies = new long[threads];
+        for (int i = 0; i < threads; i++) {
+            latencies[i] = callers.get(i).get();
+        }
+        return latencies;
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private static TaskRequestDTO request(String title) {
+        TaskRequestDTO taskRequestDTO = new TaskRequestDTO();
+        taskRequestDTO.setTitle(title);
+        taskRequestDTO.setDescription("Description of " + title);
+        return taskRequestDTO;
+    }
+
+    private record Result(double queriesPerRound, double p50Millis, double p99Millis, double maxMillis) {
+    }
+}
@@ -0,0 +1,78 @@
+package com.mendes.task_manager.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mendes.task_manager.TaskManagerApplication;
+import com.mendes.task_manager.dto.TaskDTO;
+import com.mendes.task_manager.service.TaskService;
+import com.mendes.task_manager.service.snapshot.TaskSnapshotCache;
+import com.mendes.task_manager.service.versioning.TaskVersion;
+
+/**
+ * A cached {@code GET /api/tasks/{id}} body: the cached {@code TaskDTO} serialized by Jackson with its ETag
+ * built on every read, against the bytes and ETag stored by {@link TaskSnapshotCache}. Run with the GC
+ * profiler to compare {@code gc.alloc.rate.norm}, the bytes allocated per read.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskSnapshotBenchmark {
+
+    private static final Long ID = 1L;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private TaskSnapshotCache taskSnapshotCache;
+    private ObjectMapper objectMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(TaskManagerApplication.class)
+                        .web(WebApplicationType.NONE)
+                        .properties("spring.datasource.url=jdbc:h2:mem:task-snapshot-benchmark")
+                        .run();
+        taskService = context.getBean(TaskService.class);
+        taskSnapshotCache = context.getBean(TaskSnapshotCache.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+        TaskServiceBenchmark.seed(context.getBean(JdbcTemplate.class), 1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int serializeCachedTask() throws JsonProcessingException {
+        TaskDTO task = taskService.findTaskById(ID);
+        return objectMapper.writeValueAsBytes(task).length + TaskVersion.etag(task).length();
+    }
+
+    @Benchmark
+    public int readSnapshot() {
+        TaskSnapshotCache.Snapshot snapshot = taskSnapshotCache.get(ID);
+        return snapshot.json().length + snapshot.etag().length();
+    }
+}
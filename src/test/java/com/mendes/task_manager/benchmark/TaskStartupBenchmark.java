@@ -0,0 +1,131 @@
+package com.mendes.task_manager.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.mendes.task_manager.TaskManagerApplication;
+import com.mendes.task_manager.controller.TaskController;
+import com.mendes.task_manager.model.Task;
+
+/**
+ * Startup time of the {@code persistent} profile on database files of 10k to 10M tasks. Each size is
+ * seeded once into {@code directory} and reused by later runs. The application is then started {@code runs}
+ * times with warm start off ({@code cold}) and with the profile's settings ({@code warm}).
+ *
+ * <p>For each start it reports how long the context took to come up, the latency of the first list page and
+ * of the first read of the most recently updated task, and when the background search index was complete.
+ * All starts share this JVM, so the first one also pays for class loading; the 10M size needs a heap large
+ * enough for the search index.
+ *
+ * <p>Usage: {@code TaskStartupBenchmark [sizes=10000,100000,1000000,10000000] [runs=3] [directory=target/startup-benchmark]}
+ */
+public class TaskStartupBenchmark {
+
+    private static final int SEED_CHUNK = 100_000;
+
+    public static void main(String[] args) throws Exception {
+        List<Long> sizes = args.length > 0
+                            ? Arrays.stream(args[0].split(",")).map(Long::valueOf).toList()
+                            : List.of(10_000L, 100_000L, 1_000_000L, 10_000_000L);
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        Path directory = Paths.get(args.length > 2 ? args[2] : "target/startup-benchmark");
+
+        System.out.printf("%-10s %-6s %10s %14s %16s %17s %17s%n",
+                            "tasks", "mode", "file (MB)", "started (ms)", "first page (ms)", "recent task (ms)", "search ready (ms)");
+        for (long size : sizes) {
+            Path database = directory.resolve("tasks-" + size);
+            seed(database, size);
+            long fileBytes = Files.size(database.resolveSibling(database.getFileName() + ".mv.db"));
+            for (String mode : List.of("cold", "warm")) {
+                for (int run = 0; run < runs; run++) {
+                    Result result = start(database, size, "warm".equals(mode));
+                    System.out.printf("%-10d %-6s %10d %14d %16.2f %17.2f %17d%n",
+                                        size, mode, fileBytes / (1024 * 1024), result.startedMillis(), result.firstPageMillis(),
+                                        result.recentTaskMillis(), result.searchReadyMillis());
+                }
+            }
+        }
+    }
+
+    /** Creates the schema through a command line start (no web server, no search index), then bulk inserts in SQL. */
+    private static void seed(Path database, long size) {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(TaskManagerApplication.class)
+                                                .profiles("persistent")
+                                                .properties("spring.main.web-application-type=none", "spring.jpa.show-sql=false");
+        try (ConfigurableApplicationContext context = builder.run("--task-manager.persistent.path=" + database.toAbsolutePath())) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tb_tasks", Long.class);
+            if (existing != null && existing == size) {
+                return;
+            }
+            jdbcTemplate.update("DELETE FROM tb_tasks");
+            // updated_at grows with the id, so task `size` is the most recently updated one.
+            for (long from = 1; from <= size; from += SEED_CHUNK) {
+                jdbcTemplate.update("INSERT INTO tb_tasks (task_id, task_title, task_description, created_at, updated_at) "
+                                  + "SELECT X, 'Startup title ' || X, 'Startup description ' || X, "
+                                  + "DATEADD('SECOND', X, TIMESTAMP '2024-01-01 00:00:00'), DATEADD('SECOND', X, TIMESTAMP '2024-01-01 00:00:00') "
+                                  + "FROM SYSTEM_RANGE(?, ?)", from, Math.min(size, from + SEED_CHUNK - 1));
+            }
+            jdbcTemplate.execute("ALTER SEQUENCE tb_tasks_seq RESTART WITH " + (size + Task.ID_ALLOCATION_SIZE));
+        }
+    }
+
+    private static Result start(Path database, long size, boolean warm) throws Exception {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(TaskManagerApplication.class)
+                                                .profiles("persistent")
+                                                .properties("server.port=0", "spring.jpa.show-sql=false");
+        // Command line arguments, so they take precedence over application-persistent.properties.
+        List<String> arguments = new ArrayList<>(List.of("--task-manager.persistent.path=" + database.toAbsolutePath()));
+        if (!warm) {
+            arguments.addAll(List.of("--task-manager.warm-start.pages=0", "--task-manager.warm-start.recent-tasks=0"));
+        }
+
+        System.gc();
+        long start = System.nanoTime();
+        try (ConfigurableApplicationContext context = builder.run(arguments.toArray(String[]::new))) {
+            long startedMillis = (System.nanoTime() - start) / 1_000_000;
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String baseUri = String.format("http://localhost:%s/api/tasks", port);
+            HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+            double firstPageMillis = time(httpClient, baseUri);
+            double recentTaskMillis = time(httpClient, baseUri + "/" + size);
+
+            // Every seeded task contains the term, so the search total reaches the table size once the build ends.
+            HttpRequest search = HttpRequest.newBuilder(URI.create(baseUri + "/search?q=startup&size=1")).GET().build();
+            while (!String.valueOf(size).equals(httpClient.send(search, HttpResponse.BodyHandlers.discarding())
+                                                        .headers().firstValue(TaskController.TOTAL_COUNT_HEADER).orElse(null))) {
+                Thread.sleep(50);
+            }
+            long searchReadyMillis = (System.nanoTime() - start) / 1_000_000;
+            return new Result(startedMillis, firstPageMillis, recentTaskMillis, searchReadyMillis);
+        }
+    }
+
+    private static double time(HttpClient httpClient, String uri) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(uri)).GET().build();
+        long start = System.nanoTime();
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(uri + " returned " + response.statusCode());
+        }
+        return (System.nanoTime() - start) / 1_000_000.0;
+    }
+
+    private record Result(long startedMillis, double firstPageMillis, double recentTaskMillis, long searchReadyMillis) {
+    }
+}
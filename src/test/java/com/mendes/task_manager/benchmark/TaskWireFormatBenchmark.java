@@ -0,0 +1,85 @@
+package com.mendes.task_manager.benchmark;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.mendes.task_manager.dto.TaskDTO;
+
+/**
+ * Encode and decode cost of a {@code GET /api/tasks} page in each wire format the API negotiates.
+ * The encoded size of the page is printed once per trial, since JMH only reports timings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskWireFormatBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    @Param({"100", "1000"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private JavaType listType;
+    private List<TaskDTO> tasks;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        objectMapper = switch (format) {
+            case "cbor" -> builder.factory(new CBORFactory()).build();
+            case "smile" -> builder.factory(new SmileFactory()).build();
+            default -> builder.build();
+        };
+        listType = objectMapper.getTypeFactory().constructCollectionType(List.class, TaskDTO.class);
+
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0, 0);
+        tasks = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            TaskDTO dto = new TaskDTO();
+            dto.setId(id);
+            dto.setTitle("Benchmark title " + id);
+            dto.setDescription("Benchmark description " + id);
+            dto.setCreatedAt(createdAt);
+            dto.setLastUpdatedAt(createdAt.plusSeconds(id));
+            tasks.add(dto);
+        }
+        encoded = objectMapper.writerFor(listType).writeValueAsBytes(tasks);
+        System.out.printf("%n%s payload for %d tasks: %d bytes%n", format, size, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encodeTaskList() throws IOException {
+        return objectMapper.writerFor(listType).writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public List<TaskDTO> decodeTaskList() throws IOException {
+        return objectMapper.readerFor(listType).readValue(encoded);
+    }
+}
@@ -0,0 +1,45 @@
+package com.mendes.task_manager.integration;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@AutoConfigureTestDatabase(replace=AutoConfigureTestDatabase.Replace.ANY)
+@DirtiesContext(classMode=DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class MetricsIntegrationTest {
+
+    final String PATH_END_POINT = "/api/tasks";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    public void whenTasksAreRequested_thenPrometheusEndpointShouldExposeServiceMetrics() throws Exception {
+        mockMvc.perform(get(PATH_END_POINT))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(String.format("%s/%s", PATH_END_POINT, 1)))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("task_service_seconds_bucket{")))
+                .andExpect(content().string(containsString("operation=\"findPage\"")))
+                .andExpect(content().string(containsString("operation=\"find\"")))
+                .andExpect(content().string(containsString("task_service_result_size_count{operation=\"findPage\"")))
+                .andExpect(content().string(containsString("task_exceptions_total{handler=\"TaskNotFoundException\",status=\"404\"}")))
+                .andExpect(content().string(containsString("hibernate_")));
+    }
+}
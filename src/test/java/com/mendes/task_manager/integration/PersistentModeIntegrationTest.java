@@ -0,0 +1,66 @@
+package com.mendes.task_manager.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.mendes.task_manager.TaskManagerApplication;
+import com.mendes.task_manager.configuration.cache.CacheConfig;
+import com.mendes.task_manager.dto.TaskDTO;
+import com.mendes.task_manager.dto.TaskRequestDTO;
+import com.mendes.task_manager.service.TaskService;
+import com.mendes.task_manager.service.snapshot.TaskPageSnapshotCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Boots the {@code persistent} profile twice on the same database file. Hibernate validates the
+ * entities against the migrated schema, which is how a migration that drifts from them is caught.
+ */
+public class PersistentModeIntegrationTest {
+
+    @TempDir
+    Path directory;
+
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(TaskManagerApplication.class)
+                    .profiles("persistent")
+                    .run("--server.port=0",
+                         "--spring.jpa.hibernate.ddl-auto=validate",
+                         "--task-manager.persistent.path=" + directory.resolve("task-manager-db"));
+    }
+
+    @Test
+    public void whenRestarted_thenTasksAreKeptAndWarmedIntoTheCaches() {
+        TaskRequestDTO request = new TaskRequestDTO();
+        request.setTitle("Persistent title");
+        request.setDescription("Persistent description");
+
+        Long id;
+        try (ConfigurableApplicationContext context = start()) {
+            id = context.getBean(TaskService.class).saveTask(request).getId();
+        }
+
+        try (ConfigurableApplicationContext context = start()) {
+            TaskDTO cachedTask = context.getBean(CacheManager.class).getCache(CacheConfig.TASKS_CACHE).get(id, TaskDTO.class);
+            assertNotNull(cachedTask);
+            assertEquals("Persistent title", cachedTask.getTitle());
+
+            double snapshots = context.getBean(MeterRegistry.class)
+                                    .get("cache.size").tag("cache", TaskPageSnapshotCache.CACHE_NAME).gauge().value();
+            assertEquals(1, snapshots);
+
+            String schemaVersion = context.getBean(JdbcTemplate.class)
+                                    .queryForObject("SELECT MAX(\"version\") FROM \"flyway_schema_history\" WHERE \"success\"", String.class);
+            assertEquals("1", schemaVersion);
+        }
+    }
+}
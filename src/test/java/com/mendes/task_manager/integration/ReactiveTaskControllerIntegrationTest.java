@@ -0,0 +1,266 @@
+package com.mendes.task_manager.integration;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import com.mendes.task_manager.controller.TaskController;
+import com.mendes.task_manager.dto.TaskDTO;
+import com.mendes.task_manager.dto.TaskRequestDTO;
+
+/**
+ * Runs the {@code reactive} profile. The context is shared by every test, so each one works
+ * on the tasks it creates instead of assuming an empty table.
+ */
+@SpringBootTest(properties = {
+    "spring.main.web-application-type=reactive",
+    "spring.datasource.url=jdbc:h2:mem:reactive-test-db",
+    "spring.r2dbc.url=r2dbc:h2:mem:///reactive-test-db"
+})
+@AutoConfigureWebTestClient
+@ActiveProfiles("reactive")
+public class ReactiveTaskControllerIntegrationTest {
+
+    final String PATH_END_POINT = "/api/tasks";
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    private TaskDTO createTask(String title) {
+        TaskRequestDTO request = new TaskRequestDTO();
+        request.setTitle(title);
+        request.setDescription(title + " description");
+
+        TaskDTO created = webTestClient.post().uri(PATH_END_POINT)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .bodyValue(request)
+                            .exchange()
+                            .expectStatus().isCreated()
+                            .expectHeader().exists(HttpHeaders.ETAG)
+                            .expectBody(TaskDTO.class)
+                            .returnResult().getResponseBody();
+        assertNotNull(created);
+        return created;
+    }
+
+    @Test
+    public void whenGetInvalidResource_thenReturnNotFound() {
+        webTestClient.get().uri("/invalidURI")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody().jsonPath("$.errors[0]").isEqualTo("No static resource invalidURI.");
+    }
+
+    @Test
+    public void whenCreateTask_thenItCanBeReadBackAndRevalidated() {
+        TaskDTO created = createTask("Reactive title");
+
+        String etag = webTestClient.get().uri(PATH_END_POINT + "/{id}", created.getId())
+                        .exchange()
+                        .expectStatus().isOk()
+                        .expectBody()
+                        .jsonPath("$.title").isEqualTo("Reactive title")
+                        .jsonPath("$.description").isEqualTo("Reactive title description")
+                        .returnResult().getResponseHeaders().getETag();
+
+        webTestClient.get().uri(PATH_END_POINT + "/{id}", created.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isNotModified();
+
+        webTestClient.get().uri(PATH_END_POINT + "/{id}?fields=title", created.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(created.getId())
+                .jsonPath("$.title").isEqualTo("Reactive title")
+                .jsonPath("$.description").doesNotExist();
+    }
+
+    @Test
+    public void whenCreateInvalidTask_thenReturnValidationErrors() {
+        webTestClient.post().uri(PATH_END_POINT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"title\":\"\",\"description\":\"Some description\"}")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.statusCode").isEqualTo(400)
+                .jsonPath("$.errors").value(hasItem("The field `title` cannot be empty."));
+    }
+
+    @Test
+    public void whenGetInvalidIds_thenReturnBadRequestOrNotFound() {
+        webTestClient.get().uri(PATH_END_POINT + "/abc")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.errors[0]").isEqualTo("ID must be a positive Integer.");
+
+        webTestClient.get().uri(PATH_END_POINT + "/0")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.errors[0]").isEqualTo("ID must be a positive Integer.");
+
+        webTestClient.get().uri(PATH_END_POINT + "/999999999")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody().jsonPath("$.errors[0]").isEqualTo("Task with ID 999999999 not found.");
+    }
+
+    @Test
+    public void whenUpdateTaskWithStaleIfMatch_thenReturnPreconditionFailed() {
+        TaskDTO created = createTask("Versioned title");
+        String staleEtag = webTestClient.get().uri(PATH_END_POINT + "/{id}", created.getId())
+                            .exchange()
+                            .returnResult(TaskDTO.class).getResponseHeaders().getETag();
+
+        TaskRequestDTO update = new TaskRequestDTO();
+        update.setTitle("Updated title");
+        update.setDescription("Updated description");
+
+        webTestClient.put().uri(PATH_END_POINT + "/{id}", created.getId())
+                .header(HttpHeaders.IF_MATCH, staleEtag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(update)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.title").isEqualTo("Updated title");
+
+        webTestClient.put().uri(PATH_END_POINT + "/{id}", created.getId())
+                .header(HttpHeaders.IF_MATCH, staleEtag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(update)
+                .exchange()
+                .expectStatus().isEqualTo(412)
+                .expectBody().jsonPath("$.errors[0]")
+                .isEqualTo(String.format("Task with ID %s has been modified since it was last read.", created.getId()));
+    }
+
+    @Test
+    public void whenDeleteTask_thenItIsGone() {
+        TaskDTO created = createTask("Short-lived title");
+
+        webTestClient.delete().uri(PATH_END_POINT + "/{id}", created.getId())
+                .exchange()
+                .expectStatus().isNoContent();
+
+        webTestClient.get().uri(PATH_END_POINT + "/{id}", created.getId())
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    public void whenPagingTasks_thenFollowTheCursor() {
+        createTask("Paged title 1");
+        createTask("Paged title 2");
+
+        String next = webTestClient.get().uri(PATH_END_POINT + "?limit=1")
+                        .exchange()
+                        .expectStatus().isOk()
+                        .expectHeader().exists(HttpHeaders.ETAG)
+                        .expectBody().jsonPath("$.length()").isEqualTo(1)
+                        .returnResult().getResponseHeaders().getFirst(TaskController.NEXT_CURSOR_HEADER);
+        assertNotNull(next);
+
+        webTestClient.get().uri(PATH_END_POINT + "?limit=1&cursor={cursor}", next)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.length()").isEqualTo(1);
+
+        webTestClient.get().uri(PATH_END_POINT + "?limit=0")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.errors[0]").isEqualTo("The parameter `limit` must be between 1 and 1000.");
+
+        webTestClient.get().uri(PATH_END_POINT + "?cursor=invalid")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.errors[0]").isEqualTo("The parameter `cursor` is invalid.");
+    }
+
+    @Test
+    public void whenPagingFilteredAndSortedTasks_thenFollowTheCursorInThatOrder() {
+        TaskDTO first = createTask("Sorted title A");
+        TaskDTO second = createTask("Sorted title B");
+
+        String next = webTestClient.get().uri(PATH_END_POINT + "?titlePrefix=Sorted title&sort=-title&limit=1")
+                        .exchange()
+                        .expectStatus().isOk()
+                        .expectBody().jsonPath("$[0].id").isEqualTo(second.getId())
+                        .returnResult().getResponseHeaders().getFirst(TaskController.NEXT_CURSOR_HEADER);
+        assertNotNull(next);
+
+        webTestClient.get().uri(PATH_END_POINT + "?titlePrefix=Sorted title&sort=-title&limit=1&cursor={cursor}", next)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].id").isEqualTo(first.getId())
+                .jsonPath("$.length()").isEqualTo(1);
+
+        webTestClient.get().uri(PATH_END_POINT + "?sort=owner")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    public void whenStreamTasks_thenReturnOneJsonDocumentPerLine() {
+        TaskDTO created = createTask("Streamed title");
+
+        List<TaskDTO> streamed = webTestClient.get().uri(PATH_END_POINT + "/stream")
+                                    .accept(MediaType.APPLICATION_NDJSON)
+                                    .exchange()
+                                    .expectStatus().isOk()
+                                    .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                                    .returnResult(TaskDTO.class).getResponseBody()
+                                    .collectList().block();
+        assertNotNull(streamed);
+        assertEquals(1, streamed.stream().filter(dto -> dto.getId().equals(created.getId())).count());
+    }
+
+    @Test
+    public void whenBatchHasInvalidItems_thenReturnMultiStatus() {
+        webTestClient.post().uri(PATH_END_POINT + "/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("[{\"title\":\"Batch title\",\"description\":\"Batch description\"},{\"title\":\"\",\"description\":\"x\"}]")
+                .exchange()
+                .expectStatus().isEqualTo(207)
+                .expectBody()
+                .jsonPath("$[0].statusCode").isEqualTo(201)
+                .jsonPath("$[0].task.title").isEqualTo("Batch title")
+                .jsonPath("$[1].statusCode").isEqualTo(400)
+                .jsonPath("$[1].error.errors[0]").isEqualTo("The field `title` cannot be empty.");
+
+        webTestClient.post().uri(PATH_END_POINT + "/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("[]")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.errors[0]").isEqualTo("A batch must contain between 1 and 10000 items.");
+    }
+
+    @Test
+    public void whenBatchDelete_thenReportMissingIds() {
+        TaskDTO created = createTask("Batch deleted title");
+
+        webTestClient.method(HttpMethod.DELETE).uri(PATH_END_POINT + "/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(created.getId(), 999999999L))
+                .exchange()
+                .expectStatus().isEqualTo(207)
+                .expectBody()
+                .jsonPath("$[0].statusCode").isEqualTo(204)
+                .jsonPath("$[1].statusCode").isEqualTo(404);
+    }
+}
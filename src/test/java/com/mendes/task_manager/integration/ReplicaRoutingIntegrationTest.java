@@ -0,0 +1,136 @@
+package com.mendes.task_manager.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mendes.task_manager.TaskManagerApplication;
+import com.mendes.task_manager.configuration.metrics.MetricsConfig;
+import com.mendes.task_manager.dto.TaskRequestDTO;
+import com.mendes.task_manager.repository.replica.TaskReplicaRoutingDataSource;
+import com.mendes.task_manager.service.replica.ReadYourWritesInterceptor;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.Cookie;
+
+/**
+ * The replica is a separate in-memory database that nothing replicates into, so a task is only visible
+ * there once the test copies it: whatever a read returns shows which database served it.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@DirtiesContext(classMode=DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class ReplicaRoutingIntegrationTest {
+
+    final String PATH_END_POINT = "/api/tasks";
+
+    @DynamicPropertySource
+    static void replicaProperties(DynamicPropertyRegistry registry) {
+        // Its own primary as well, so rows left by other test classes' contexts do not show up.
+        registry.add("spring.datasource.url", () -> "jdbc:h2:mem:replica-test-primary");
+        registry.add("task-manager.replicas.enabled", () -> "true");
+        registry.add("task-manager.replicas.urls", () -> "jdbc:h2:mem:replica-test-0");
+        registry.add("task-manager.replicas.migrate", () -> "true");
+        // Probes are triggered explicitly.
+        registry.add("task-manager.replicas.health-check-interval-ms", () -> "3600000");
+        registry.add("spring.jpa.open-in-view", () -> "false");
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private TaskReplicaRoutingDataSource routing() throws Exception {
+        return dataSource.unwrap(TaskReplicaRoutingDataSource.class);
+    }
+
+    private Cookie create(String title) throws Exception {
+        TaskRequestDTO taskRequestDTO = new TaskRequestDTO();
+            taskRequestDTO.setTitle(title);
+            taskRequestDTO.setDescription("Description of " + title);
+        Cookie cookie = mockMvc.perform(post(PATH_END_POINT)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(taskRequestDTO)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getCookie(ReadYourWritesInterceptor.COOKIE_NAME);
+        assertNotNull(cookie);
+        return cookie;
+    }
+
+    @Test
+    public void whenClientHasJustWritten_thenItReadsFromThePrimaryAndOthersFromTheReplica() throws Exception {
+        Cookie cookie = create("Write the report");
+
+        mockMvc.perform(get(PATH_END_POINT).param("fields", "id,title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+        mockMvc.perform(get(PATH_END_POINT).param("fields", "id,title").cookie(cookie))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].title").value("Write the report"));
+
+        // Replication catches up.
+        JdbcTemplate primary = new JdbcTemplate(routing().primary());
+        JdbcTemplate replica = new JdbcTemplate(routing().replicas().get(0));
+        primary.query("SELECT task_id, task_title, task_description, created_at, updated_at FROM tb_tasks", row -> {
+            replica.update("INSERT INTO tb_tasks (task_id, task_title, task_description, created_at, updated_at) VALUES (?, ?, ?, ?, ?)",
+                                row.getLong(1), row.getString(2), row.getString(3), row.getTimestamp(4), row.getTimestamp(5));
+        });
+
+        mockMvc.perform(get(PATH_END_POINT).param("fields", "id,title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].title").value("Write the report"));
+    }
+
+    @Test
+    public void whenReplicaIsLost_thenReadsFailOverToThePrimary() throws Exception {
+        create("Buy milk");
+        ((HikariDataSource) routing().replicas().get(0)).close();
+
+        mockMvc.perform(get(PATH_END_POINT).param("fields", "id,title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].title").value("Buy milk"));
+
+        routing().checkHealth();
+        assertEquals(0, meterRegistry.get(MetricsConfig.TASK_REPLICAS_HEALTHY).gauge().value());
+    }
+
+    @Test
+    public void whenOpenInViewIsLeftOn_thenStartupFails() {
+        Exception ex = assertThrows(Exception.class, () -> new SpringApplicationBuilder(TaskManagerApplication.class)
+                                                                .run("--task-manager.replicas.enabled=true", "--task-manager.replicas.urls=jdbc:h2:mem:open-in-view-replica",
+                                                                        "--spring.jpa.open-in-view=true", "--server.port=0"));
+        assertEquals("task-manager.replicas requires spring.jpa.open-in-view=false.", NestedExceptionUtils.getMostSpecificCause(ex).getMessage());
+    }
+}
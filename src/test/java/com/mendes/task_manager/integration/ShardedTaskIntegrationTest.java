@@ -0,0 +1,196 @@
+package com.mendes.task_manager.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mendes.task_manager.TaskManagerApplication;
+import com.mendes.task_manager.controller.TaskController;
+import com.mendes.task_manager.dto.TaskBatchUpdateRequestDTO;
+import com.mendes.task_manager.dto.TaskRequestDTO;
+import com.mendes.task_manager.service.sharding.TaskShards;
+
+/** Runs against the four in-memory shards of the {@code sharded} profile, each migrated on startup. */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("sharded")
+@DirtiesContext(classMode=DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class ShardedTaskIntegrationTest {
+
+    final String PATH_END_POINT = "/api/tasks";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskShards taskShards;
+
+    private TaskRequestDTO taskRequest(String title) {
+        TaskRequestDTO taskRequestDTO = new TaskRequestDTO();
+            taskRequestDTO.setTitle(title);
+            taskRequestDTO.setDescription("Description of " + title);
+        return taskRequestDTO;
+    }
+
+    private int rowsOnShard(int shard) {
+        return taskShards.onShard(shard, () -> jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tb_tasks", Integer.class));
+    }
+
+    private Long create(String title) throws Exception {
+        String body = mockMvc.perform(post(PATH_END_POINT)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(taskRequest(title))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("id").asLong();
+    }
+
+    @Test
+    public void whenTaskBatchIsCreated_thenItIsSpreadOverTheShardsAndListedInIdOrder() throws Exception {
+        List<TaskRequestDTO> taskRequestDTOs = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            taskRequestDTOs.add(taskRequest("Task " + i));
+        }
+        mockMvc.perform(post(PATH_END_POINT + "/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(taskRequestDTOs)))
+                .andExpect(status().isCreated());
+
+        // Consecutive ids are hashed round-robin over the four shards.
+        for (int shard = 0; shard < taskShards.count(); shard++) {
+            assertEquals(2, rowsOnShard(shard));
+        }
+
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            MvcResult result = mockMvc.perform(cursor == null
+                                                ? get(PATH_END_POINT).param("limit", "3")
+                                                : get(PATH_END_POINT).param("limit", "3").param("cursor", cursor))
+                                    .andExpect(status().isOk())
+                                    .andReturn();
+            for (JsonNode task : objectMapper.readTree(result.getResponse().getContentAsString())) {
+                ids.add(task.get("id").asLong());
+            }
+            cursor = result.getResponse().getHeader(TaskController.NEXT_CURSOR_HEADER);
+        } while (cursor != null);
+
+        assertEquals(8, ids.size());
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i - 1) < ids.get(i), ids.toString());
+        }
+
+        mockMvc.perform(get(PATH_END_POINT).param("sort", "-title").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].title").value("Task 7"))
+                .andExpect(jsonPath("$[1].title").value("Task 6"));
+
+        mockMvc.perform(get(String.format("%s/%s", PATH_END_POINT, ids.get(5))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Task 5"));
+
+        MvcResult stream = mockMvc.perform(get(PATH_END_POINT + "/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String[] lines = mockMvc.perform(asyncDispatch(stream))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString().split("\n");
+        assertEquals(8, lines.length);
+        for (int i = 0; i < lines.length; i++) {
+            assertEquals(ids.get(i), objectMapper.readTree(lines[i]).get("id").asLong());
+        }
+    }
+
+    @Test
+    public void whenTasksAreChangedOneByOneAndInBatch_thenEachChangeReachesTheOwningShard() throws Exception {
+        Long first = create("Write the report");
+        Long second = create("Buy milk");
+        Long third = create("Call the plumber");
+        Long fourth = create("Water the plants");
+
+        mockMvc.perform(put(String.format("%s/%s", PATH_END_POINT, first))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(taskRequest("Send the report"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Send the report"));
+
+        TaskBatchUpdateRequestDTO updateRequestDTO = new TaskBatchUpdateRequestDTO();
+            updateRequestDTO.setId(second);
+            updateRequestDTO.setTitle("Buy oat milk");
+            updateRequestDTO.setDescription("Two cartons");
+        mockMvc.perform(put(PATH_END_POINT + "/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(List.of(updateRequestDTO))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].task.title").value("Buy oat milk"));
+
+        mockMvc.perform(delete(PATH_END_POINT + "/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(Arrays.asList(third, 999L))))
+                .andExpect(jsonPath("$[0].statusCode").value(204))
+                .andExpect(jsonPath("$[1].statusCode").value(404));
+        mockMvc.perform(delete(String.format("%s/%s", PATH_END_POINT, fourth)))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get(String.format("%s/%s", PATH_END_POINT, third)))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get(PATH_END_POINT + "/search").param("q", "milk"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "1"))
+                .andExpect(jsonPath("$[0].id").value(second));
+        mockMvc.perform(get(PATH_END_POINT).param("fields", "id,title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].title").value("Send the report"))
+                .andExpect(jsonPath("$[1].title").value("Buy oat milk"));
+
+        int rows = 0;
+        for (int shard = 0; shard < taskShards.count(); shard++) {
+            rows += rowsOnShard(shard);
+        }
+        assertEquals(2, rows);
+    }
+
+    @Test
+    public void whenOpenInViewIsLeftOn_thenStartupFails() {
+        Exception ex = assertThrows(Exception.class, () -> new SpringApplicationBuilder(TaskManagerApplication.class).profiles("sharded")
+                                                                .run("--task-manager.sharding.urls=jdbc:h2:mem:open-in-view-shard-0,jdbc:h2:mem:open-in-view-shard-1",
+                                                                        "--spring.jpa.open-in-view=true", "--server.port=0"));
+        assertEquals("task-manager.sharding requires spring.jpa.open-in-view=false.", NestedExceptionUtils.getMostSpecificCause(ex).getMessage());
+    }
+}
@@ -1,20 +1,45 @@
 package com.mendes.task_manager.integration;
 
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
-
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.mendes.task_manager.configuration.cache.CacheConfig;
+import com.mendes.task_manager.dto.TaskBatchUpdateRequestDTO;
 import com.mendes.task_manager.dto.TaskRequestDTO;
+import com.mendes.task_manager.service.snapshot.TaskSnapshotCache;
+
+import jakarta.persistence.EntityManagerFactory;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -30,6 +55,15 @@ public class TaskControllerIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TaskSnapshotCache taskSnapshotCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Test
     public void whenGetInvalidResource_thenReturnNotFound() throws Exception {
         mockMvc.perform(get("/invalidURI"))
@@ -51,6 +85,117 @@ public class TaskControllerIntegrationTest {
                 .andExpect(jsonPath("$[2].id").doesNotExist());
     }
 
+    @Test
+    @Sql(scripts = "/data/data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    public void whenGetAllTasksWithLimit_thenReturnPageAndNextCursor() throws Exception {
+        MvcResult firstPage = mockMvc.perform(get(PATH_END_POINT).param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("X-Next-Cursor"))
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[1].id").doesNotExist())
+                .andReturn();
+
+        String next = firstPage.getResponse().getHeader("X-Next-Cursor");
+
+        mockMvc.perform(get(PATH_END_POINT).param("limit", "1").param("cursor", next))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(2))
+                .andExpect(jsonPath("$[1].id").doesNotExist());
+    }
+
+    @Test
+    @Sql(scripts = "/data/data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    public void whenGetAllTasksSorted_thenFollowTheCursorInThatOrder() throws Exception {
+        MvcResult firstPage = mockMvc.perform(get(PATH_END_POINT).param("sort", "createdAt").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(2))
+                .andExpect(jsonPath("$[1].id").doesNotExist())
+                .andReturn();
+
+        String next = firstPage.getResponse().getHeader("X-Next-Cursor");
+        assertNotNull(next);
+
+        mockMvc.perform(get(PATH_END_POINT).param("sort", "createdAt").param("limit", "1").param("cursor", next))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[1].id").doesNotExist());
+
+        mockMvc.perform(get(PATH_END_POINT).param("sort", "-createdAt").param("cursor", next))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors").value("The parameter `cursor` is invalid."));
+
+        mockMvc.perform(get(PATH_END_POINT).param("sort", "-lastUpdatedAt").param("fields", "title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].title").value("Test title 1"))
+                .andExpect(jsonPath("$[0].lastUpdatedAt").doesNotExist())
+                .andExpect(jsonPath("$[1].id").value(2));
+    }
+
+    @Test
+    @Sql(scripts = "/data/data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    public void whenGetAllTasksFiltered_thenReturnOnlyMatchingTasks() throws Exception {
+        mockMvc.perform(get(PATH_END_POINT).param("titlePrefix", "Test title 2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(2))
+                .andExpect(jsonPath("$[1].id").doesNotExist());
+
+        mockMvc.perform(get(PATH_END_POINT).param("titlePrefix", "Test%"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").doesNotExist());
+
+        mockMvc.perform(get(PATH_END_POINT).param("createdFrom", "2024-01-01T00:00:30"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[1].id").doesNotExist());
+
+        mockMvc.perform(get(PATH_END_POINT).param("updatedFrom", "2024-01-02T00:00:00").param("updatedTo", "2024-01-02T00:01:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(2))
+                .andExpect(jsonPath("$[1].id").doesNotExist());
+    }
+
+    @Test
+    public void whenGetAllTasksWithInvalidSortOrFilter_thenReturnBadRequest() throws Exception {
+        mockMvc.perform(get(PATH_END_POINT).param("sort", "description"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors").value(
+                        "The parameter `sort` accepts only: id, title, createdAt, lastUpdatedAt, optionally prefixed with `-` for descending order."));
+
+        mockMvc.perform(get(PATH_END_POINT).param("createdTo", "yesterday"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors").value("The parameter `createdTo` must be a date-time such as 2024-01-01T00:00:00."));
+    }
+
+    @Test
+    public void whenGetAllTasksWithInvalidPagination_thenReturnBadRequest() throws Exception {
+        mockMvc.perform(get(PATH_END_POINT).param("limit", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors").value("The parameter `limit` must be between 1 and 1000."));
+
+        mockMvc.perform(get(PATH_END_POINT).param("cursor", "invalid cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors").value("The parameter `cursor` is invalid."));
+    }
+
+    @Test
+    @Sql(scripts = "/data/data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    public void whenStreamAllTasks_thenReturnNdjson() throws Exception {
+        MvcResult result = mockMvc.perform(get(PATH_END_POINT + "/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(1L, objectMapper.readTree(lines[0]).get("id").asLong());
+        assertEquals(2L, objectMapper.readTree(lines[1]).get("id").asLong());
+    }
+
     @Test
     @Sql(scripts = "/data/data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
     public void whenGetTaskById_thenReturnOk() throws Exception {
@@ -62,6 +207,282 @@ public class TaskControllerIntegrationTest {
                 .andExpect(jsonPath("$.description").value("Test description 2"));
     }
     
+    @Test
+    @Sql(scripts = "/data/data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    public void whenTaskIsReadUpdatedAndDeleted_thenCacheShouldFollow() throws Exception {
+        final Long ID = 1L;
+        TaskRequestDTO taskRequestDTO = new TaskRequestDTO();
+            taskRequestDTO.setTitle("Test title 1");
+            taskRequestDTO.setDescription("Test cached description");
+
+        mockMvc.perform(get(String.format("%s/%s", PATH_END_POINT, ID)))
+                .andExpect(status().isOk());
+        assertNotNull(cacheManager.getCache(CacheConfig.TASKS_CACHE).get(ID));
+
+        mockMvc.perform(put(String.format("%s/%s", PATH_END_POINT, ID))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(taskRequestDTO)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(String.format("%s/%s", PATH_END_POINT, ID)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.description").value(taskRequestDTO.getDescription()));
+
+        mockMvc.perform(delete(String.format("%s/%s", PATH_END_POINT, ID)))
+                .andExpect(status().isNoContent());
+        assertNull(cacheManager.getCache(CacheConfig.TASKS_CACHE).get(ID));
+        mockMvc.perform(get(String.format("%s/%s", PATH_END_POINT, ID)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Sql(scripts = "/data/data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    public void whenTaskIsReadAsJson_thenStoredBytesAreServedUntilItChanges() throws Exception {
+        final Long ID = 1L;
+        MvcResult first = mockMvc.perform(get(String.format("%s/%s", PATH_END_POINT, ID)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.title").value("Test title 1"))
+                .andReturn();
+        TaskSnapshotCache.Snapshot snapshot = taskSnapshotCache.get(ID);
+        assertArrayEquals(snapshot.json(), first.getResponse().getContentAsByteArray());
+        assertEquals(snapshot.etag(), first.getResponse().getHeader("ETag"));
+
+        TaskRequestDTO taskRequestDTO = new TaskRequestDTO();
+        taskRequestDTO.setTitle("Test title 1");
+        taskRequestDTO.setDescription("Changed description");
+        mockMvc.perform(put(String.format("%s/%s", PATH_END_POINT, ID))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(taskRequestDTO)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get(String.format("%s/%s", PATH_END_POINT, ID)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(snapshot.etag())))
+                .andExpect(jsonPath("$.description").value("Changed description"));
+    }
+
+    @Test
+    @Sql(scripts = "/data/data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    public void whenGetTaskWithCurrentETag_thenReturnNotModified() throws Exception {
+        final Long ID = 1L;
+        MvcResult result = mockMvc.perform(get(String.format("%s/%s", PATH_END_POINT, ID)))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().exists("Last-Modified"))
+                .andReturn();
+        String etag = result.getResponse().getHeader("ETag");
+
+        mockMvc.perform(get(String.format("%s/%s", PATH_END_POINT, ID)).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        String listEtag = mockMvc.perform(get(PATH_END_POINT))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        mockMvc.perform(get(PATH_END_POINT).header("If-None-Match", listEtag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(delete(String.format("%s/%s", PATH_END_POINT, 2)))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get(PATH_END_POINT).header("If-None-Match", listEtag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(listEtag)));
+    }
+
+    @Test
+    @Sql(scripts = "/data/data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    public void whenTaskListIsReadAgain_thenNoQueryIsRunUntilATaskChanges() throws Exception {
+        String listEtag = mockMvc.perform(get(PATH_END_POINT))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get(PATH_END_POINT))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", listEtag));
+        mockMvc.perform(get(PATH_END_POINT).header("If-None-Match", listEtag))
+                .andExpect(status().isNotModified());
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        mockMvc.perform(delete(String.format("%s/%s", PATH_END_POINT, 2)))
+                .andExpect(status().isNoContent());
+        statistics.clear();
+        mockMvc.perform(get(PATH_END_POINT).header("If-None-Match", listEtag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(listEtag)));
+        assertTrue(statistics.getPrepareStatementCount() > 0);
+    }
+
+    @Test
+    @Sql(scripts = "/data/data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    public void whenUpdateTaskWithIfMatch_thenOnlyCurrentVersionIsUpdated() throws Exception {
+        final Long ID = 1L;
+        TaskRequestDTO taskRequestDTO = new TaskRequestDTO();
+            taskRequestDTO.setTitle("Test title 1");
+            taskRequestDTO.setDescription("Test conditional description");
+
+        String etag = mockMvc.perform(get(String.format("%s/%s", PATH_END_POINT, ID)))
+                .andReturn().getResponse().getHeader("ETag");
+
+        MvcResult updated = mockMvc.perform(put(String.format("%s/%s", PATH_END_POINT, ID))
+                    .header("If-Match", etag)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(taskRequestDTO)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)))
+                .andReturn();
+
+        mockMvc.perform(put(String.format("%s/%s", PATH_END_POINT, ID))
+                    .header("If-Match", etag)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(taskRequestDTO)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.errors").value(String.format("Task with ID %s has been modified since it was last read.", ID)));
+
+        mockMvc.perform(get(String.format("%s/%s", PATH_END_POINT, ID))
+                    .header("If-None-Match", updated.getResponse().getHeader("ETag")))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @Sql(scripts = "/data/data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    public void whenGetTasksWithFields_thenReturnOnlyThoseFields() throws Exception {
+        mockMvc.perform(get(PATH_END_POINT).param("fields", "title,lastUpdatedAt"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].title").value("Test title 1"))
+                .andExpect(jsonPath("$[0].lastUpdatedAt").value("2024-01-02T00:01:00"))
+                .andExpect(jsonPath("$[0].description").doesNotExist())
+                .andExpect(jsonPath("$[0].createdAt").doesNotExist());
+
+        mockMvc.perform(get(String.format("%s/%s", PATH_END_POINT, 2)).param("fields", "description"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.id").value(2))
+                .andExpect(jsonPath("$.description").value("Test description 2"))
+                .andExpect(jsonPath("$.title").doesNotExist())
+                .andExpect(jsonPath("$.lastUpdatedAt").doesNotExist());
+
+        mockMvc.perform(get(PATH_END_POINT).param("fields", "title,owner"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors").value("The parameter `fields` accepts only: id, title, description, createdAt, lastUpdatedAt."));
+    }
+
+    @Test
+    @Sql(scripts = "/data/data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    public void whenCborIsAccepted_thenTasksAndErrorsAreEncodedInCbor() throws Exception {
+        ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build();
+
+        mockMvc.perform(get(PATH_END_POINT))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+
+        MvcResult list = mockMvc.perform(get(PATH_END_POINT).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn();
+        JsonNode tasks = cborMapper.readTree(list.getResponse().getContentAsByteArray());
+        assertEquals(2, tasks.size());
+        assertEquals("Test title 1", tasks.get(0).get("title").asText());
+
+        MvcResult notFound = mockMvc.perform(get(String.format("%s/%s", PATH_END_POINT, 3)).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn();
+        JsonNode error = cborMapper.readTree(notFound.getResponse().getContentAsByteArray());
+        assertEquals("Task with ID 3 not found.", error.get("errors").get(0).asText());
+    }
+
+    @Test
+    public void whenPostTaskInSmile_thenReturnCreatedInSmile() throws Exception {
+        ObjectMapper smileMapper = Jackson2ObjectMapperBuilder.json().factory(new SmileFactory()).build();
+
+        TaskRequestDTO taskRequestDTO = new TaskRequestDTO();
+            taskRequestDTO.setTitle("Test smile title");
+            taskRequestDTO.setDescription("Test smile description");
+        MediaType smile = MediaType.valueOf("application/x-jackson-smile");
+        MvcResult created = mockMvc.perform(post(PATH_END_POINT)
+                    .contentType(smile)
+                    .accept(smile)
+                    .content(smileMapper.writeValueAsBytes(taskRequestDTO)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentTypeCompatibleWith(smile))
+                .andReturn();
+        assertEquals(taskRequestDTO.getTitle(), smileMapper.readTree(created.getResponse().getContentAsByteArray()).get("title").asText());
+    }
+
+    @Test
+    @Sql(scripts = "/data/data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    public void whenGzipIsAccepted_thenServePrecompressedPageUntilTasksChange() throws Exception {
+        MvcResult compressed = mockMvc.perform(get(PATH_END_POINT).header("Accept-Encoding", "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("Vary", "Accept-Encoding"))
+                .andReturn();
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed.getResponse().getContentAsByteArray()))) {
+            assertEquals(2, objectMapper.readTree(gzip.readAllBytes()).size());
+        }
+
+        mockMvc.perform(get(PATH_END_POINT).header("Accept-Encoding", "identity"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(jsonPath("$[1].id").value(2));
+
+        mockMvc.perform(delete(String.format("%s/%s", PATH_END_POINT, 2)))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get(PATH_END_POINT))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[1].id").doesNotExist());
+    }
+
+    @Test
+    @Sql(scripts = "/data/data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    public void whenSubscribedToChanges_thenMutationsAreStreamedAndReplayed() throws Exception {
+        TaskRequestDTO taskRequestDTO = new TaskRequestDTO();
+            taskRequestDTO.setTitle("Test title 1");
+            taskRequestDTO.setDescription("Test streamed description");
+
+        MvcResult live = mockMvc.perform(get(String.format("%s/changes", PATH_END_POINT)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(put(String.format("%s/%s", PATH_END_POINT, 1))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(taskRequestDTO)))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete(String.format("%s/%s", PATH_END_POINT, 2)))
+                .andExpect(status().isNoContent());
+
+        String stream = awaitContent(live, "event:DELETED");
+        assertTrue(stream.contains("id:1\nevent:UPDATED\ndata:{\"sequence\":1,\"type\":\"UPDATED\",\"id\":1,"));
+        assertTrue(stream.contains("Test streamed description"));
+        assertTrue(stream.contains("id:2\nevent:DELETED\ndata:{\"sequence\":2,\"type\":\"DELETED\",\"id\":2}"));
+
+        MvcResult resumed = mockMvc.perform(get(String.format("%s/changes", PATH_END_POINT)).header("Last-Event-ID", "1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String replay = awaitContent(resumed, "event:DELETED");
+        assertFalse(replay.contains("event:UPDATED"));
+
+        MvcResult reset = mockMvc.perform(get(String.format("%s/changes", PATH_END_POINT)).header("Last-Event-ID", "99"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertTrue(awaitContent(reset, "event:reset").contains("data:{\"sequence\":2}"));
+    }
+
+    private String awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        String content = result.getResponse().getContentAsString();
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = result.getResponse().getContentAsString();
+        }
+        assertTrue(content.contains(expected), content);
+        return content;
+    }
+
     @Test
     public void whenGetTaskByIdWithInvalidId_thenReturnBadRequest() throws Exception {
         mockMvc.perform(get(String.format("%s/%s", PATH_END_POINT, -1)))
@@ -100,6 +521,36 @@ public class TaskControllerIntegrationTest {
                     .andExpect(jsonPath("$.description").value(taskRequestDTO.getDescription()));
     }
 
+    @Test
+    public void whenPostTaskIsRetriedWithIdempotencyKey_thenTheFirstTaskIsReturned() throws Exception {
+        final Long ID = 1L;
+        TaskRequestDTO taskRequestDTO = new TaskRequestDTO();
+            taskRequestDTO.setTitle("Test title");
+            taskRequestDTO.setDescription("Test description");
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            mockMvc.perform(post(PATH_END_POINT)
+                        .header("Idempotency-Key", "create-test-title")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(taskRequestDTO)))
+                    .andExpect(status().isCreated())
+                    .andExpect(attempt == 0 ? header().doesNotExist("Idempotent-Replayed") : header().string("Idempotent-Replayed", "true"))
+                    .andExpect(jsonPath("$.id").value(ID));
+        }
+
+        taskRequestDTO.setDescription("Another description");
+        mockMvc.perform(post(PATH_END_POINT)
+                    .header("Idempotency-Key", "create-test-title")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(taskRequestDTO)))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors").value("Idempotency key create-test-title was already used with a different request body."));
+
+        mockMvc.perform(get(PATH_END_POINT))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
     @Test
     public void whenPostTaskWithMissingField_thenReturnBadRequest() throws Exception {
         TaskRequestDTO taskRequestDTO = new TaskRequestDTO();
@@ -140,7 +591,9 @@ public class TaskControllerIntegrationTest {
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.id").value(ID))
                     .andExpect(jsonPath("$.title").value(taskRequestDTO.getTitle()))
-                    .andExpect(jsonPath("$.description").value(taskRequestDTO.getDescription()));
+                    .andExpect(jsonPath("$.description").value(taskRequestDTO.getDescription()))
+                    .andExpect(jsonPath("$.createdAt").value("2024-01-01T00:01:00"))
+                    .andExpect(jsonPath("$.lastUpdatedAt").value(not("2024-01-02T00:01:00")));
     }
 
     @Test
@@ -219,4 +672,217 @@ public class TaskControllerIntegrationTest {
                 .andExpect(jsonPath("$.errors").value("ID must be a positive Integer."));
     }
 
+    @Test
+    public void whenPostTaskBatch_thenReturnCreated() throws Exception {
+        TaskRequestDTO taskRequestDTO1 = new TaskRequestDTO();
+            taskRequestDTO1.setTitle("Test title 1");
+            taskRequestDTO1.setDescription("Test description 1");
+        TaskRequestDTO taskRequestDTO2 = new TaskRequestDTO();
+            taskRequestDTO2.setTitle("Test title 2");
+            taskRequestDTO2.setDescription("Test description 2");
+
+        mockMvc.perform(post(PATH_END_POINT + "/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(Arrays.asList(taskRequestDTO1, taskRequestDTO2))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$[0].index").value(0))
+                .andExpect(jsonPath("$[0].statusCode").value(201))
+                .andExpect(jsonPath("$[0].task.id").value(1))
+                .andExpect(jsonPath("$[0].task.title").value(taskRequestDTO1.getTitle()))
+                .andExpect(jsonPath("$[1].task.id").value(2))
+                .andExpect(jsonPath("$[1].task.title").value(taskRequestDTO2.getTitle()));
+
+        mockMvc.perform(get(String.format("%s/%s", PATH_END_POINT, 2)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.description").value(taskRequestDTO2.getDescription()));
+    }
+
+    @Test
+    public void whenPostTaskBatchWithInvalidItem_thenReturnMultiStatus() throws Exception {
+        TaskRequestDTO validRequestDTO = new TaskRequestDTO();
+            validRequestDTO.setTitle("Test title");
+            validRequestDTO.setDescription("Test description");
+        TaskRequestDTO invalidRequestDTO = new TaskRequestDTO();
+            invalidRequestDTO.setTitle("Test title");
+
+        mockMvc.perform(post(PATH_END_POINT + "/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(Arrays.asList(invalidRequestDTO, validRequestDTO))))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$[0].statusCode").value(400))
+                .andExpect(jsonPath("$[0].task").doesNotExist())
+                .andExpect(jsonPath("$[0].error.statusCode").value(400))
+                .andExpect(jsonPath("$[0].error.errors").value("The field `description` cannot be empty."))
+                .andExpect(jsonPath("$[1].statusCode").value(201))
+                .andExpect(jsonPath("$[1].task.id").value(1));
+    }
+
+    @Test
+    public void whenPostEmptyTaskBatch_thenReturnBadRequest() throws Exception {
+        mockMvc.perform(post(PATH_END_POINT + "/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("[]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors").value("A batch must contain between 1 and 10000 items."));
+    }
+
+    @Test
+    @Sql(scripts = "/data/data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    public void whenPutTaskBatch_thenReturnUpdatedAndNotFoundItems() throws Exception {
+        TaskBatchUpdateRequestDTO existingRequestDTO = new TaskBatchUpdateRequestDTO();
+            existingRequestDTO.setId(1L);
+            existingRequestDTO.setTitle("Test title 1");
+            existingRequestDTO.setDescription("Test new description");
+        TaskBatchUpdateRequestDTO missingRequestDTO = new TaskBatchUpdateRequestDTO();
+            missingRequestDTO.setId(99L);
+            missingRequestDTO.setTitle("Test title 99");
+            missingRequestDTO.setDescription("Test description 99");
+
+        mockMvc.perform(put(PATH_END_POINT + "/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(List.of(existingRequestDTO, missingRequestDTO))))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$[0].statusCode").value(200))
+                .andExpect(jsonPath("$[0].task.description").value(existingRequestDTO.getDescription()))
+                .andExpect(jsonPath("$[1].statusCode").value(404))
+                .andExpect(jsonPath("$[1].id").value(99))
+                .andExpect(jsonPath("$[1].error.errors").value("Task with ID 99 not found."));
+
+        mockMvc.perform(get(String.format("%s/%s", PATH_END_POINT, 1)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.description").value(existingRequestDTO.getDescription()));
+    }
+
+    @Test
+    @Sql(scripts = "/data/data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    public void whenDeleteTaskBatch_thenReturnOk() throws Exception {
+        mockMvc.perform(delete(PATH_END_POINT + "/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(List.of(1L, 2L))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].statusCode").value(204))
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[1].statusCode").value(204))
+                .andExpect(jsonPath("$[1].id").value(2));
+
+        mockMvc.perform(get(PATH_END_POINT))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").doesNotExist());
+    }
+
+    @Test
+    public void whenSearchTasks_thenReturnRankedMatches() throws Exception {
+        TaskRequestDTO taskRequestDTO1 = new TaskRequestDTO();
+            taskRequestDTO1.setTitle("Buy milk");
+            taskRequestDTO1.setDescription("Oat milk from the corner shop");
+        TaskRequestDTO taskRequestDTO2 = new TaskRequestDTO();
+            taskRequestDTO2.setTitle("Write report");
+            taskRequestDTO2.setDescription("Mention milk prices");
+
+        mockMvc.perform(post(PATH_END_POINT + "/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(List.of(taskRequestDTO1, taskRequestDTO2))))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get(PATH_END_POINT + "/search").param("q", "milk"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "2"))
+                .andExpect(jsonPath("$[0].title").value(taskRequestDTO1.getTitle()))
+                .andExpect(jsonPath("$[1].title").value(taskRequestDTO2.getTitle()));
+
+        mockMvc.perform(delete(String.format("%s/%s", PATH_END_POINT, 1)))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get(PATH_END_POINT + "/search").param("q", "milk"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "1"))
+                .andExpect(jsonPath("$[0].title").value(taskRequestDTO2.getTitle()));
+    }
+
+    @Test
+    public void whenImportNdjson_thenValidRowsAreImportedAndInvalidOnesReported() throws Exception {
+        String body = "{\"title\":\"Imported title 1\",\"description\":\"Imported description 1\"}\n"
+                    + "{\"title\":\"\",\"description\":\"Imported description 2\"}\n"
+                    + "not json\n"
+                    + "\n"
+                    + "{\"id\":7,\"title\":\"Imported title 4\",\"description\":\"Imported description 4\"}\n";
+
+        mockMvc.perform(post(PATH_END_POINT + "/import")
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .content(body))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.read").value(4))
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.rejected").value(2))
+                .andExpect(jsonPath("$.rejections[0].row").value(2))
+                .andExpect(jsonPath("$.rejections[0].errors").value("The field `title` cannot be empty."))
+                .andExpect(jsonPath("$.rejections[1].row").value(3))
+                .andExpect(jsonPath("$.rejections[1].errors").value("The row is not a valid Task."));
+
+        mockMvc.perform(get(PATH_END_POINT))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].title").value("Imported title 1"))
+                .andExpect(jsonPath("$[1].title").value("Imported title 4"));
+
+        mockMvc.perform(get(PATH_END_POINT + "/search").param("q", "imported"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "2"));
+    }
+
+    @Test
+    public void whenImportCsv_thenTasksCanBeExportedAsCsvAndNdjson() throws Exception {
+        String body = "title,description\n"
+                    + "Csv title 1,Csv description 1\n"
+                    + "\"Csv title, quoted\",Csv description 2\n";
+
+        mockMvc.perform(post(PATH_END_POINT + "/import")
+                    .contentType("text/csv")
+                    .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.rejected").value(0));
+
+        MvcResult csvExport = mockMvc.perform(get(PATH_END_POINT + "/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String csv = mockMvc.perform(asyncDispatch(csvExport))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"tasks.csv\""))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] csvLines = csv.split("\n");
+        assertEquals(3, csvLines.length);
+        assertEquals("id,title,description,createdAt,lastUpdatedAt", csvLines[0]);
+        assertTrue(csvLines[2].contains("\"Csv title, quoted\",\"Csv description 2\""));
+
+        MvcResult ndjsonExport = mockMvc.perform(get(PATH_END_POINT + "/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String ndjson = mockMvc.perform(asyncDispatch(ndjsonExport))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] ndjsonLines = ndjson.split("\n");
+        assertEquals(2, ndjsonLines.length);
+        assertEquals("Csv title 1", objectMapper.readTree(ndjsonLines[0]).get("title").asText());
+        assertEquals("Csv title, quoted", objectMapper.readTree(ndjsonLines[1]).get("title").asText());
+    }
+
+    @Test
+    public void whenExportWithUnknownFormat_thenReturnBadRequest() throws Exception {
+        mockMvc.perform(get(PATH_END_POINT + "/export").param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors").value("The parameter `format` accepts only: ndjson, csv."));
+    }
+
+    @Test
+    public void whenSearchTasksWithoutQuery_thenReturnBadRequest() throws Exception {
+        mockMvc.perform(get(PATH_END_POINT + "/search"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors").value("The parameter `q` cannot be empty."));
+    }
+
 }
@@ -0,0 +1,63 @@
+package com.mendes.task_manager.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.mendes.task_manager.service.transfer.TaskTransferCommand;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@AutoConfigureTestDatabase(replace=AutoConfigureTestDatabase.Replace.ANY)
+@DirtiesContext(classMode=DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class TaskTransferCommandIntegrationTest {
+
+    @TempDir
+    Path directory;
+
+    @Autowired
+    private TaskTransferCommand taskTransferCommand;
+
+    @Test
+    public void whenImportAndExportFiles_thenRowsRoundTripAndRejectionsSetTheExitCode() throws Exception {
+        Path source = directory.resolve("tasks.csv");
+        Files.writeString(source, "title,description\n"
+                                + "Command title 1,Command description 1\n"
+                                + "Command title 2,\n"
+                                + "Command title 3,Command description 3\n");
+
+        taskTransferCommand.run(new DefaultApplicationArguments(TaskTransferCommand.IMPORT, source.toString()));
+        assertEquals(1, taskTransferCommand.getExitCode());
+
+        Path target = directory.resolve("tasks.ndjson");
+        taskTransferCommand.run(new DefaultApplicationArguments(TaskTransferCommand.EXPORT, target.toString()));
+        assertEquals(0, taskTransferCommand.getExitCode());
+
+        List<String> lines = Files.readAllLines(target);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).contains("\"title\":\"Command title 1\""));
+        assertTrue(lines.get(1).contains("\"title\":\"Command title 3\""));
+    }
+
+    @Test
+    public void whenCommandIsIncomplete_thenExitWithUsageError() throws Exception {
+        taskTransferCommand.run(new DefaultApplicationArguments(TaskTransferCommand.IMPORT));
+        assertEquals(2, taskTransferCommand.getExitCode());
+    }
+
+    @Test
+    public void whenArgumentsStartWithACommand_thenItIsRecognized() {
+        assertTrue(TaskTransferCommand.isCommand(new String[] {"--spring.profiles.active=x", "export", "tasks.csv"}));
+        assertEquals(false, TaskTransferCommand.isCommand(new String[] {"--server.port=0"}));
+    }
+}
@@ -0,0 +1,145 @@
+package com.mendes.task_manager.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mendes.task_manager.dto.TaskBatchResultDTO;
+import com.mendes.task_manager.dto.TaskRequestDTO;
+import com.mendes.task_manager.service.TaskService;
+import com.mendes.task_manager.service.writebehind.TaskWriteBehind;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase(replace=AutoConfigureTestDatabase.Replace.ANY)
+@DirtiesContext(classMode=DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class WriteBehindIntegrationTest {
+
+    final String PATH_END_POINT = "/api/tasks";
+
+    @TempDir
+    static Path journalDirectory;
+
+    @DynamicPropertySource
+    static void writeBehindProperties(DynamicPropertyRegistry registry) {
+        registry.add("task-manager.write-behind.enabled", () -> "true");
+        registry.add("task-manager.write-behind.journal-path", () -> journalDirectory.resolve("tasks.journal").toString());
+        // Flushes are triggered explicitly so the test controls when rows appear.
+        registry.add("task-manager.write-behind.flush-interval-ms", () -> "3600000");
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskWriteBehind taskWriteBehind;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Test
+    public void whenPostTask_thenTaskIsAcknowledgedBeforeItIsFlushed() throws Exception {
+        TaskRequestDTO taskRequestDTO = new TaskRequestDTO();
+            taskRequestDTO.setTitle("Journaled title");
+            taskRequestDTO.setDescription("Journaled description");
+
+        String body = mockMvc.perform(post(PATH_END_POINT)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(taskRequestDTO)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.title").value(taskRequestDTO.getTitle()))
+                .andReturn().getResponse().getContentAsString();
+        Long id = objectMapper.readTree(body).get("id").asLong();
+
+        mockMvc.perform(get(String.format("%s/%s", PATH_END_POINT, id)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.description").value(taskRequestDTO.getDescription()));
+
+        // The scheduler may already have picked the entry up; either way it ends up in the table once.
+        taskWriteBehind.flush();
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tb_tasks WHERE task_id = ?", Integer.class, id));
+
+        mockMvc.perform(get(PATH_END_POINT))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(id));
+    }
+
+    @Test
+    public void whenJournaledAndBatchInsertedTasksStartTogetherOnAFreshSequence_thenNoIdIsHandedOutTwice() throws Exception {
+        TaskRequestDTO taskRequestDTO = new TaskRequestDTO();
+            taskRequestDTO.setTitle("Concurrent title");
+            taskRequestDTO.setDescription("Concurrent description");
+        List<TaskRequestDTO> batch = Collections.nCopies(20, taskRequestDTO);
+
+        // Each test method gets its own database, so the first ids of tb_tasks_seq are taken here.
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<List<Long>>> callers = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                callers.add(executor.submit(() -> {
+                    start.await();
+                    List<Long> ids = new ArrayList<>();
+                    for (int j = 0; j < 100; j++) {
+                        ids.add(taskWriteBehind.enqueue(taskRequestDTO).getId());
+                    }
+                    return ids;
+                }));
+                callers.add(executor.submit(() -> {
+                    start.await();
+                    List<Long> ids = new ArrayList<>();
+                    for (int j = 0; j < 5; j++) {
+                        taskService.saveTasks(batch).stream().map(TaskBatchResultDTO::id).forEach(ids::add);
+                    }
+                    return ids;
+                }));
+            }
+            start.countDown();
+
+            List<Long> ids = new ArrayList<>();
+            for (Future<List<Long>> caller : callers) {
+                ids.addAll(caller.get(1, TimeUnit.MINUTES));
+            }
+            taskWriteBehind.flush();
+
+            assertEquals(ids.size(), new HashSet<>(ids).size());
+            // The flusher upserts by id, so a shared id would have replaced a row instead of adding one.
+            assertEquals(ids.size(), jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tb_tasks", Integer.class));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,109 @@
+package com.mendes.task_manager.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.mendes.task_manager.exception.TaskNotFoundException;
+import com.mendes.task_manager.service.singleflight.SingleFlight;
+
+public class SingleFlightUnitTest {
+
+    private final SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final CountDownLatch loadStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseLoad = new CountDownLatch(1);
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    public void tearDown() {
+        releaseLoad.countDown();
+        executor.shutdownNow();
+    }
+
+    /** A load that counts itself and holds until the test releases it. */
+    private String blockingLoad(Long id) {
+        loads.incrementAndGet();
+        loadStarted.countDown();
+        try {
+            releaseLoad.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        return "task " + id + " load " + loads.get();
+    }
+
+    /** Waits until {@code callers} callers have joined the load in flight, so none of them arrives after it ends. */
+    private void awaitCoalesced(long callers) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.coalesced() < callers && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(callers, singleFlight.coalesced());
+    }
+
+    @Test
+    public void whenSameKeyIsLoadedConcurrently_thenOneLoadIsSharedAndLaterCallersLoadAgain() throws Exception {
+        Future<String> first = executor.submit(() -> singleFlight.load(1L, () -> blockingLoad(1L)));
+        assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+        Future<String> second = executor.submit(() -> singleFlight.load(1L, () -> blockingLoad(1L)));
+        Future<String> third = executor.submit(() -> singleFlight.load(1L, () -> blockingLoad(1L)));
+        Future<String> otherKey = executor.submit(() -> singleFlight.load(2L, () -> "task 2"));
+
+        assertEquals("task 2", otherKey.get(5, TimeUnit.SECONDS));
+        awaitCoalesced(2);
+        releaseLoad.countDown();
+
+        assertSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+        assertSame(first.get(), third.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+        assertEquals(2, singleFlight.coalesced());
+
+        assertEquals("task 1 load 2", singleFlight.load(1L, () -> blockingLoad(1L)));
+    }
+
+    @Test
+    public void whenLoadFails_thenWaitingCallersGetTheSameException() throws Exception {
+        Future<String> first = executor.submit(() -> singleFlight.load(1L, () -> {
+            blockingLoad(1L);
+            throw new TaskNotFoundException(1L);
+        }));
+        assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+        Future<String> second = executor.submit(() -> singleFlight.load(1L, () -> blockingLoad(1L)));
+        awaitCoalesced(1);
+        releaseLoad.countDown();
+
+        ExecutionException firstFailure = assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS));
+        ExecutionException secondFailure = assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS));
+        assertTrue(firstFailure.getCause() instanceof TaskNotFoundException);
+        assertSame(firstFailure.getCause(), secondFailure.getCause());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void whenKeyIsForgotten_thenTheNextCallerDoesNotJoinTheLoadInFlight() throws Exception {
+        Future<String> first = executor.submit(() -> singleFlight.load(1L, () -> blockingLoad(1L)));
+        assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+
+        singleFlight.forget(1L);
+        assertEquals("after change", singleFlight.load(1L, () -> "after change"));
+        assertFalse(first.isDone());
+
+        releaseLoad.countDown();
+        assertEquals("task 1 load 1", first.get(5, TimeUnit.SECONDS));
+        assertEquals(0, singleFlight.coalesced());
+    }
+}
@@ -0,0 +1,114 @@
+package com.mendes.task_manager.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import com.mendes.task_manager.configuration.metrics.MetricsConfig;
+import com.mendes.task_manager.service.slowquery.SlowQueryDataSource;
+import com.mendes.task_manager.service.slowquery.SlowQueryLog;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class SlowQueryLogUnitTest {
+
+    final Logger logger = (Logger) LoggerFactory.getLogger(SlowQueryLog.class);
+    final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    public void setUp() {
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    private DataSource dataSource(Duration threshold, double sampleRate) {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:slow-query-" + System.nanoTime());
+        SlowQueryLog slowQueryLog = new SlowQueryLog(threshold, sampleRate, meterRegistry);
+        return SlowQueryDataSource.wrap(h2, () -> slowQueryLog);
+    }
+
+    private double slowQueries() {
+        return meterRegistry.get(MetricsConfig.TASK_SLOW_QUERIES).counter().count();
+    }
+
+    private List<String> messages() {
+        return appender.list.stream().map(ILoggingEvent::getFormattedMessage).toList();
+    }
+
+    @Test
+    public void whenStatementReachesTheThreshold_thenItIsLoggedWithItsBindsAndCaller() throws SQLException {
+        try (Connection connection = dataSource(Duration.ZERO, 1.0).getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT ? + ?")) {
+            statement.setInt(1, 1);
+            statement.setInt(2, 2);
+            statement.executeQuery().close();
+        }
+
+        assertEquals(1, slowQueries());
+        assertEquals(1, messages().size());
+        String message = messages().get(0);
+        assertTrue(message.contains("with 2 binds in SlowQueryLogUnitTest.whenStatementReachesTheThreshold_thenItIsLoggedWithItsBindsAndCaller"), message);
+        assertTrue(message.endsWith(": SELECT ? + ?"), message);
+    }
+
+    @Test
+    public void whenBatchIsExecuted_thenTheBindsOfAllItsRowsAreCounted() throws SQLException {
+        try (Connection connection = dataSource(Duration.ZERO, 1.0).getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE t (a INT, b INT)");
+            }
+            try (PreparedStatement statement = connection.prepareStatement("INSERT INTO t VALUES (?, ?)")) {
+                for (int i = 0; i < 3; i++) {
+                    statement.setInt(1, i);
+                    statement.setInt(2, i);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        }
+
+        assertEquals(2, slowQueries());
+        assertTrue(messages().get(1).contains("with 6 binds"), messages().get(1));
+    }
+
+    @Test
+    public void whenStatementIsUnderTheThresholdOrNotSampled_thenNothingIsLogged() throws SQLException {
+        try (Connection connection = dataSource(Duration.ofHours(1), 1.0).getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("SELECT 1");
+        }
+        assertEquals(0, slowQueries());
+
+        try (Connection connection = dataSource(Duration.ZERO, 0.0).getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("SELECT 1");
+        }
+        assertEquals(1, slowQueries());
+        assertTrue(messages().isEmpty());
+    }
+}
@@ -0,0 +1,45 @@
+package com.mendes.task_manager.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.mendes.task_manager.service.feed.TaskChangeLog;
+
+public class TaskChangeLogUnitTest {
+
+    @Test
+    public void whenResumingWithinTheBuffer_thenMissedEntriesAreReturnedInOrder() {
+        TaskChangeLog<String> changeLog = new TaskChangeLog<>(3);
+        changeLog.append("a");
+        changeLog.append("b");
+        changeLog.append("c");
+
+        assertEquals(List.of("a", "b", "c"), changeLog.after(0));
+        assertEquals(List.of("c"), changeLog.after(2));
+        assertEquals(List.of(), changeLog.after(3));
+    }
+
+    @Test
+    public void whenResumingBeforeTheOldestEntry_thenNothingIsReturned() {
+        TaskChangeLog<String> changeLog = new TaskChangeLog<>(3);
+        for (String entry : List.of("a", "b", "c", "d", "e")) {
+            changeLog.append(entry);
+        }
+
+        assertEquals(5, changeLog.lastSequence());
+        assertEquals(List.of("c", "d", "e"), changeLog.after(2));
+        assertNull(changeLog.after(1));
+    }
+
+    @Test
+    public void whenResumingAfterAnUnknownSequence_thenNothingIsReturned() {
+        TaskChangeLog<String> changeLog = new TaskChangeLog<>(3);
+        changeLog.append("a");
+
+        assertNull(changeLog.after(7));
+    }
+}
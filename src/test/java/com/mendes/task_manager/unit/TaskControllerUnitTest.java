@@ -6,6 +6,8 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.net.URI;
@@ -21,14 +23,20 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import com.mendes.task_manager.controller.TaskController;
 import com.mendes.task_manager.dto.TaskDTO;
+import com.mendes.task_manager.dto.TaskPageDTO;
 import com.mendes.task_manager.dto.TaskRequestDTO;
+import com.mendes.task_manager.repository.TaskCollectionVersion;
 import com.mendes.task_manager.service.TaskService;
+import com.mendes.task_manager.service.versioning.TaskVersion;
 
 @ExtendWith(MockitoExtension.class)
 public class TaskControllerUnitTest {
@@ -42,9 +50,13 @@ public class TaskControllerUnitTest {
     private TaskController taskController;
 
     private TaskDTO taskDTO1;
+
+    private TaskCollectionVersion collectionVersion;
         
     @BeforeEach
     public void setUp() {
+        collectionVersion = new TaskCollectionVersion(2, 2L, LocalDateTime.of(2024, 8, 1, 0, 0, 0));
+
         taskDTO1 = new TaskDTO();
         taskDTO1.setId(1L);
         taskDTO1.setTitle("title 1");
@@ -64,24 +76,54 @@ public class TaskControllerUnitTest {
 
         List<TaskDTO> tasksDTOList = Arrays.asList(taskDTO1, taskDTO2);
 
-        when(taskService.findAllTasks()).thenReturn(tasksDTOList);
+        when(taskService.findCollectionVersion()).thenReturn(collectionVersion);
+        when(taskService.findTaskPage(null, 100)).thenReturn(new TaskPageDTO(tasksDTOList, null));
 
-        ResponseEntity<List<TaskDTO>> response = taskController.getAllTasks();
+        ResponseEntity<List<TaskDTO>> response = taskController.getAllTasks(null, 100, null, null, null, null, null, null, null, webRequest(null));
 
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertIterableEquals(tasksDTOList, response.getBody());
+        assertNull(response.getHeaders().getFirst(TaskController.NEXT_CURSOR_HEADER));
+        assertEquals(TaskVersion.etag(collectionVersion), response.getHeaders().getETag());
+    }
+
+    @Test
+    public void whenGetAllTasksWithCurrentETag_thenSkipLoadingThePage() {
+        when(taskService.findCollectionVersion()).thenReturn(collectionVersion);
+
+        ResponseEntity<List<TaskDTO>> response = taskController.getAllTasks(null, 100, null, null, null, null, null, null, null, webRequest(TaskVersion.etag(collectionVersion)));
+
+        assertNull(response);
+        verify(taskService, never()).findTaskPage(null, 100);
+    }
+
+    @Test
+    public void whenGetAllTasksWithMorePages_thenReturnNextCursor() {
+        final String NEXT = "next-cursor";
+        List<TaskDTO> tasksDTOList = Arrays.asList(taskDTO1);
+
+        when(taskService.findCollectionVersion()).thenReturn(collectionVersion);
+        when(taskService.findTaskPage(null, 1)).thenReturn(new TaskPageDTO(tasksDTOList, NEXT));
+
+        ResponseEntity<List<TaskDTO>> response = taskController.getAllTasks(null, 1, null, null, null, null, null, null, null, webRequest(null));
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertIterableEquals(tasksDTOList, response.getBody());
+        assertEquals(NEXT, response.getHeaders().getFirst(TaskController.NEXT_CURSOR_HEADER));
     }
 
     @Test
     public void whenGetTaskById_thenReturnTask() {
         when(taskService.findTaskById(ID)).thenReturn(taskDTO1);
 
-        ResponseEntity<TaskDTO> result = taskController.getTaskById(ID);
+        ResponseEntity<TaskDTO> result = taskController.getTaskById(ID, null);
 
         assertNotNull(result);
         assertEquals(HttpStatus.OK, result.getStatusCode());
         assertEquals(taskDTO1, result.getBody());
+        assertEquals(TaskVersion.etag(taskDTO1), result.getHeaders().getETag());
     }
 
     @Test
@@ -112,7 +154,7 @@ public class TaskControllerUnitTest {
         when(uriComponentsBuilderMock.buildAndExpand(ID_NEW_LOCATION)).thenReturn(uriComponentsMock);
         when(uriComponentsMock.toUri()).thenReturn(URI.create(LOCATION));
 
-        ResponseEntity<TaskDTO> response = taskController.createTask(taskRequestDTO);
+        ResponseEntity<TaskDTO> response = taskController.createTask(null, taskRequestDTO);
 
         assertNotNull(response);
         assertEquals(HttpStatus.CREATED, response.getStatusCode());
@@ -138,7 +180,7 @@ public class TaskControllerUnitTest {
             
         when(taskService.updateTask(ID, requestDTO)).thenReturn(updatedTaskDTO);
 
-        ResponseEntity<TaskDTO> result = taskController.updateTask(ID, requestDTO);
+        ResponseEntity<TaskDTO> result = taskController.updateTask(ID, null, requestDTO);
     
         assertNotNull(result);
         assertEquals(HttpStatus.OK, result.getStatusCode());
@@ -154,4 +196,11 @@ public class TaskControllerUnitTest {
         assertNull(result.getBody());
     }
 
+    private ServletWebRequest webRequest(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks");
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
 }
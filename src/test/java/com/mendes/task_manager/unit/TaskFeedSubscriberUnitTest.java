@@ -0,0 +1,124 @@
+package com.mendes.task_manager.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.mendes.task_manager.service.feed.TaskFeedSubscriber;
+
+public class TaskFeedSubscriberUnitTest {
+
+    private final ExecutorService writers = Executors.newVirtualThreadPerTaskExecutor();
+
+    @AfterEach
+    public void tearDown() {
+        writers.shutdownNow();
+    }
+
+    /** Records the frames it is sent; until {@code release} opens, every send blocks like a full socket. */
+    private static class RecordingEmitter extends SseEmitter {
+        final List<Set<DataWithMediaType>> sent = new CopyOnWriteArrayList<>();
+        final CountDownLatch sending = new CountDownLatch(1);
+        final CountDownLatch release;
+        final CountDownLatch completed = new CountDownLatch(1);
+
+        RecordingEmitter(boolean blocked) {
+            release = new CountDownLatch(blocked ? 1 : 0);
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> frame) throws IOException {
+            sending.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IOException(ex);
+            }
+            sent.add(frame);
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+    }
+
+    /** Frames 0 to 5; frames are compared by identity. */
+    private final List<Set<DataWithMediaType>> frames = IntStream.rangeClosed(0, 5)
+                                                            .mapToObj(sequence -> SseEmitter.event()
+                                                                                    .id(String.valueOf(sequence))
+                                                                                    .data("change " + sequence)
+                                                                                    .build())
+                                                            .toList();
+
+    private Set<DataWithMediaType> frame(int sequence) {
+        return frames.get(sequence);
+    }
+
+    @Test
+    public void whenOneClientStopsReading_thenOthersStillGetEveryFrameAndTheSlowOneIsDisconnected() throws Exception {
+        RecordingEmitter slowEmitter = new RecordingEmitter(true);
+        RecordingEmitter fastEmitter = new RecordingEmitter(false);
+        TaskFeedSubscriber slow = new TaskFeedSubscriber(slowEmitter, 2, writers);
+        TaskFeedSubscriber fast = new TaskFeedSubscriber(fastEmitter, 2, writers);
+
+        assertTrue(slow.offer(frame(1)));
+        assertTrue(slowEmitter.sending.await(5, TimeUnit.SECONDS));
+        List<Boolean> offered = new ArrayList<>();
+        for (int sequence = 1; sequence <= 4; sequence++) {
+            if (sequence > 1) {
+                offered.add(slow.offer(frame(sequence)));
+            }
+            assertTrue(fast.offer(frame(sequence)));
+            awaitSent(fastEmitter, sequence);
+        }
+
+        // Frame 1 is stuck in send, 2 and 3 fill the queue, 4 finds the client too far behind.
+        assertEquals(List.of(true, true, false), offered);
+        assertTrue(slowEmitter.completed.await(5, TimeUnit.SECONDS));
+        assertFalse(slow.offer(frame(5)));
+        assertEquals(frames.subList(1, 5), fastEmitter.sent);
+
+        // Once unblocked, the disconnected client is not written the frames it had queued.
+        slowEmitter.release.countDown();
+        Thread.sleep(50);
+        assertEquals(List.of(frame(1)), slowEmitter.sent);
+    }
+
+    @Test
+    public void whenFramesAreReplayed_thenTheyAreSentBeforeLaterOnes() throws Exception {
+        RecordingEmitter emitter = new RecordingEmitter(false);
+        TaskFeedSubscriber subscriber = new TaskFeedSubscriber(emitter, 8, writers);
+
+        subscriber.replay(frames.subList(1, 4));
+        assertTrue(subscriber.offer(frame(4)));
+        awaitSent(emitter, 4);
+
+        assertEquals(frames.subList(1, 5), emitter.sent);
+    }
+
+    private static void awaitSent(RecordingEmitter emitter, int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (emitter.sent.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(count, emitter.sent.size());
+    }
+}
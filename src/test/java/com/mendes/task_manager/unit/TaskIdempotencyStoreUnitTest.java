@@ -0,0 +1,129 @@
+package com.mendes.task_manager.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mendes.task_manager.configuration.metrics.MetricsConfig;
+import com.mendes.task_manager.dto.TaskDTO;
+import com.mendes.task_manager.dto.TaskRequestDTO;
+import com.mendes.task_manager.exception.IdempotencyKeyReuseException;
+import com.mendes.task_manager.service.idempotency.TaskIdempotencyStore;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class TaskIdempotencyStoreUnitTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private TaskIdempotencyStore taskIdempotencyStore;
+
+    private TaskRequestDTO taskRequestDTO;
+
+    private final AtomicInteger inserts = new AtomicInteger();
+
+    @BeforeEach
+    public void setUp() {
+        taskIdempotencyStore = new TaskIdempotencyStore(100, Duration.ofHours(1), meterRegistry);
+        taskRequestDTO = new TaskRequestDTO();
+            taskRequestDTO.setTitle("title 1");
+            taskRequestDTO.setDescription("description 1");
+    }
+
+    private TaskDTO insert() {
+        TaskDTO taskDTO = new TaskDTO();
+            taskDTO.setId((long) inserts.incrementAndGet());
+            taskDTO.setTitle(taskRequestDTO.getTitle());
+            taskDTO.setDescription(taskRequestDTO.getDescription());
+        return taskDTO;
+    }
+
+    private double requests(String outcome) {
+        return meterRegistry.get(MetricsConfig.TASK_IDEMPOTENT_REQUESTS).tag("outcome", outcome).counter().count();
+    }
+
+    @Test
+    public void whenKeyIsRetried_thenTheFirstTaskIsReplayedWithoutInsertingAgain() {
+        TaskIdempotencyStore.Result first = taskIdempotencyStore.create("key-1", taskRequestDTO, this::insert);
+        TaskIdempotencyStore.Result retry = taskIdempotencyStore.create("key-1", taskRequestDTO, this::insert);
+        TaskIdempotencyStore.Result other = taskIdempotencyStore.create("key-2", taskRequestDTO, this::insert);
+
+        assertFalse(first.replayed());
+        assertTrue(retry.replayed());
+        assertSame(first.task(), retry.task());
+        assertEquals(2L, other.task().getId());
+        assertEquals(2, inserts.get());
+        assertEquals(2, requests("created"));
+        assertEquals(1, requests("replayed"));
+    }
+
+    @Test
+    public void whenKeyIsReusedWithAnotherBody_thenItIsRejected() {
+        taskIdempotencyStore.create("key-1", taskRequestDTO, this::insert);
+
+        TaskRequestDTO otherRequestDTO = new TaskRequestDTO();
+            otherRequestDTO.setTitle("title 2");
+            otherRequestDTO.setDescription("description 1");
+
+        assertThrows(IdempotencyKeyReuseException.class, () -> taskIdempotencyStore.create("key-1", otherRequestDTO, this::insert));
+        assertEquals(1, inserts.get());
+        assertEquals(1, requests("rejected"));
+    }
+
+    @Test
+    public void whenInsertFails_thenTheKeyIsForgottenAndCanBeRetried() {
+        assertThrows(IllegalStateException.class, () -> taskIdempotencyStore.create("key-1", taskRequestDTO, () -> {
+            throw new IllegalStateException("database unavailable");
+        }));
+
+        TaskIdempotencyStore.Result retry = taskIdempotencyStore.create("key-1", taskRequestDTO, this::insert);
+
+        assertFalse(retry.replayed());
+        assertEquals(1, inserts.get());
+    }
+
+    @Test
+    public void whenDuplicatesArriveDuringTheInsert_thenTheyWaitForItInsteadOfInserting() throws Exception {
+        CountDownLatch insertStarted = new CountDownLatch(1);
+        CountDownLatch releaseInsert = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<TaskIdempotencyStore.Result> first = executor.submit(() -> taskIdempotencyStore.create("key-1", taskRequestDTO, () -> {
+                insertStarted.countDown();
+                try {
+                    releaseInsert.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return insert();
+            }));
+            assertTrue(insertStarted.await(5, TimeUnit.SECONDS));
+
+            Future<TaskIdempotencyStore.Result> second = executor.submit(() -> taskIdempotencyStore.create("key-1", taskRequestDTO, this::insert));
+            Future<TaskIdempotencyStore.Result> third = executor.submit(() -> taskIdempotencyStore.create("key-1", taskRequestDTO, this::insert));
+            assertFalse(second.isDone());
+            releaseInsert.countDown();
+
+            assertSame(first.get(5, TimeUnit.SECONDS).task(), second.get(5, TimeUnit.SECONDS).task());
+            assertSame(first.get().task(), third.get(5, TimeUnit.SECONDS).task());
+            assertTrue(second.get().replayed());
+            assertEquals(1, inserts.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
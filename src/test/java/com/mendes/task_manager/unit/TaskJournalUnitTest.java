@@ -0,0 +1,161 @@
+package com.mendes.task_manager.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.mendes.task_manager.service.writebehind.TaskJournal;
+import com.mendes.task_manager.service.writebehind.TaskJournalEntry;
+
+public class TaskJournalUnitTest {
+
+    final long CAPACITY = 4096;
+
+    @TempDir
+    Path directory;
+
+    private TaskJournalEntry entry(long id) {
+        return new TaskJournalEntry(id, "title " + id, "description " + id, LocalDateTime.of(2024, 1, 1, 0, 0, 0, 123_456_000));
+    }
+
+    @Test
+    public void whenEntriesAreAppended_thenTheyAreReadBackInOrderUntilFlushed() throws IOException {
+        try (TaskJournal journal = new TaskJournal(directory.resolve("tasks.journal"), CAPACITY, false)) {
+            assertTrue(journal.append(entry(1)));
+            assertTrue(journal.append(entry(2)));
+            assertTrue(journal.append(entry(3)));
+
+            TaskJournal.Batch first = journal.readPending(2);
+            assertEquals(List.of(entry(1), entry(2)), first.entries());
+
+            journal.markFlushed(first.endOffset());
+            TaskJournal.Batch second = journal.readPending(2);
+            assertEquals(List.of(entry(3)), second.entries());
+
+            journal.markFlushed(second.endOffset());
+            assertEquals(0, journal.pendingBytes());
+            assertTrue(journal.readPending(2).entries().isEmpty());
+        }
+    }
+
+    @Test
+    public void whenReadingUpToAnObservedTotal_thenLaterEntriesAreLeftPending() throws IOException {
+        try (TaskJournal journal = new TaskJournal(directory.resolve("tasks.journal"), CAPACITY, false)) {
+            journal.append(entry(1));
+            journal.markFlushed(journal.readPending(10).endOffset());
+            journal.append(entry(2));
+            long upTo = journal.appendedBytes();
+            journal.append(entry(3));
+
+            TaskJournal.Batch batch = journal.readPending(10, upTo);
+            assertEquals(List.of(entry(2)), batch.entries());
+
+            journal.markFlushed(batch.endOffset());
+            assertEquals(upTo, journal.flushedBytes());
+            assertEquals(List.of(entry(3)), journal.readPending(10, upTo + 1_000).entries());
+            assertTrue(journal.readPending(10, upTo).entries().isEmpty());
+        }
+    }
+
+    @Test
+    public void whenJournalIsReopened_thenPendingEntriesAreRecovered() throws IOException {
+        Path path = directory.resolve("tasks.journal");
+        try (TaskJournal journal = new TaskJournal(path, CAPACITY, false)) {
+            journal.append(entry(1));
+            journal.append(entry(2));
+            journal.markFlushed(journal.readPending(1).endOffset());
+        }
+
+        try (TaskJournal journal = new TaskJournal(path, CAPACITY, false)) {
+            assertEquals(List.of(entry(2)), journal.readPending(10).entries());
+        }
+    }
+
+    @Test
+    public void whenLastEntryIsTorn_thenItIsDroppedOnRecovery() throws IOException {
+        Path path = directory.resolve("tasks.journal");
+        long tornEntryEnd;
+        try (TaskJournal journal = new TaskJournal(path, CAPACITY, false)) {
+            journal.append(entry(1));
+            journal.append(entry(2));
+            tornEntryEnd = journal.readPending(10).endOffset();
+        }
+
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.seek(tornEntryEnd - 1);
+            int lastByte = file.read();
+            file.seek(tornEntryEnd - 1);
+            file.write(lastByte ^ 0xFF);
+        }
+
+        try (TaskJournal journal = new TaskJournal(path, CAPACITY, false)) {
+            assertEquals(List.of(entry(1)), journal.readPending(10).entries());
+        }
+    }
+
+    @Test
+    public void whenEntriesKeepArrivingWhileFlushing_thenAppendsWrapAroundInsteadOfFilling() throws IOException {
+        Path path = directory.resolve("tasks.journal");
+        try (TaskJournal journal = new TaskJournal(path, CAPACITY, false)) {
+            assertTrue(journal.append(entry(0)));
+            // One entry stays pending after every flush, so the journal is never empty and never rewinds.
+            for (long id = 1; id < 1_000; id++) {
+                assertTrue(journal.append(entry(id)), "append of entry " + id);
+                TaskJournal.Batch batch = journal.readPending(1);
+                assertEquals(List.of(entry(id - 1)), batch.entries());
+                journal.markFlushed(batch.endOffset());
+            }
+            assertEquals(List.of(entry(999)), journal.readPending(10).entries());
+        }
+
+        try (TaskJournal journal = new TaskJournal(path, CAPACITY, false)) {
+            assertEquals(List.of(entry(999)), journal.readPending(10).entries());
+        }
+    }
+
+    @Test
+    public void whenJournalIsReopenedWhileWrapped_thenPendingEntriesAreRecoveredInOrder() throws IOException {
+        Path path = directory.resolve("tasks.journal");
+        List<TaskJournalEntry> pending = new ArrayList<>();
+        try (TaskJournal journal = new TaskJournal(path, CAPACITY, false)) {
+            long id = 0;
+            while (journal.append(entry(id))) {
+                id++;
+            }
+            // Free the first half of the file, then append until the write offset has passed the end.
+            journal.markFlushed(journal.readPending((int) id / 2).endOffset());
+            for (long next = id / 2; next < id; next++) {
+                pending.add(entry(next));
+            }
+            for (int i = 0; i < 5; i++, id++) {
+                assertTrue(journal.append(entry(id)));
+                pending.add(entry(id));
+            }
+            assertEquals(pending, journal.readPending(Integer.MAX_VALUE).entries());
+        }
+
+        try (TaskJournal journal = new TaskJournal(path, CAPACITY, false)) {
+            assertEquals(pending, journal.readPending(Integer.MAX_VALUE).entries());
+            journal.markFlushed(journal.readPending(Integer.MAX_VALUE).endOffset());
+            assertEquals(0, journal.pendingBytes());
+        }
+    }
+
+    @Test
+    public void whenJournalIsFull_thenAppendIsRejected() throws IOException {
+        try (TaskJournal journal = new TaskJournal(directory.resolve("tasks.journal"), 64, false)) {
+            assertFalse(journal.append(entry(1)));
+            assertEquals(0, journal.pendingBytes());
+        }
+    }
+}
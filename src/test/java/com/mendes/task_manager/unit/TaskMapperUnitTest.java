@@ -0,0 +1,60 @@
+package com.mendes.task_manager.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mendes.task_manager.dto.TaskDTO;
+import com.mendes.task_manager.dto.TaskRequestDTO;
+import com.mendes.task_manager.dto.mapper.TaskMapper;
+import com.mendes.task_manager.model.Task;
+
+public class TaskMapperUnitTest {
+
+    private TaskMapper taskMapper;
+
+    private Task task1;
+
+    @BeforeEach
+    public void setUp() {
+        taskMapper = new TaskMapper();
+
+        task1 = new Task();
+        task1.setId(1L);
+        task1.setTitle("title 1");
+        task1.setDescription("description 1");
+        task1.setCreatedAt(LocalDateTime.of(2024, 1, 1, 0, 0, 0));
+        task1.setLastUpdatedAt(task1.getCreatedAt().plusDays(1));
+    }
+
+    @Test
+    void whenMappingTaskToDTO_thenEveryFieldShouldBeCopied() {
+        TaskDTO result = taskMapper.toTaskDTO(task1);
+
+        assertNotNull(result);
+        assertEquals(task1.getId(), result.getId());
+        assertEquals(task1.getTitle(), result.getTitle());
+        assertEquals(task1.getDescription(), result.getDescription());
+        assertEquals(task1.getCreatedAt(), result.getCreatedAt());
+        assertEquals(task1.getLastUpdatedAt(), result.getLastUpdatedAt());
+    }
+
+    @Test
+    void whenMappingRequestToEntity_thenOnlyRequestFieldsShouldBeSet() {
+        TaskRequestDTO taskRequestDTO = new TaskRequestDTO(task1);
+
+        Task result = taskMapper.toTaskEntity(taskRequestDTO);
+
+        assertNotNull(result);
+        assertNull(result.getId());
+        assertEquals(task1.getTitle(), result.getTitle());
+        assertEquals(task1.getDescription(), result.getDescription());
+        assertNull(result.getCreatedAt());
+        assertNull(result.getLastUpdatedAt());
+    }
+}
@@ -0,0 +1,152 @@
+package com.mendes.task_manager.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mendes.task_manager.dto.TaskDTO;
+import com.mendes.task_manager.model.Task;
+import com.mendes.task_manager.repository.TaskRepository;
+import com.mendes.task_manager.service.event.TaskChangeEvent;
+import com.mendes.task_manager.service.search.TaskSearchIndex;
+import com.mendes.task_manager.service.sharding.TaskShards;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskSearchIndexUnitTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Spy
+    private TaskShards taskShards = new TaskShards();
+
+    @InjectMocks
+    private TaskSearchIndex taskSearchIndex;
+
+    @BeforeEach
+    public void setUp() {
+        taskSearchIndex.index(1L, "Buy milk", "Remember the oat milk");
+        taskSearchIndex.index(2L, "Write report", "Quarterly report, mention milk prices");
+        taskSearchIndex.index(3L, "Call plumber", "Kitchen sink");
+    }
+
+    @Test
+    void whenSearchingATerm_thenMatchingTasksShouldBeRankedByRelevance() {
+        TaskSearchIndex.Hits hits = taskSearchIndex.search("MILK", 0, 10);
+
+        assertEquals(2, hits.total());
+        assertIterableEquals(Arrays.asList(1L, 2L), hits.ids());
+    }
+
+    @Test
+    void whenSearchingSeveralTerms_thenTasksMatchingMoreTermsShouldRankFirst() {
+        TaskSearchIndex.Hits hits = taskSearchIndex.search("milk report", 0, 10);
+
+        assertEquals(2, hits.total());
+        assertIterableEquals(Arrays.asList(2L, 1L), hits.ids());
+    }
+
+    @Test
+    void whenPaging_thenOnlyRequestedSliceShouldBeReturned() {
+        TaskSearchIndex.Hits hits = taskSearchIndex.search("milk", 1, 1);
+
+        assertEquals(2, hits.total());
+        assertIterableEquals(Arrays.asList(2L), hits.ids());
+        assertTrue(taskSearchIndex.search("milk", 5, 1).ids().isEmpty());
+    }
+
+    @Test
+    void whenTaskIsUpdatedOrDeleted_thenIndexShouldFollow() {
+        TaskDTO updatedTask = new TaskDTO();
+            updatedTask.setId(1L);
+            updatedTask.setTitle("Buy bread");
+            updatedTask.setDescription("Whole grain");
+
+        taskSearchIndex.onTaskChange(TaskChangeEvent.updated(updatedTask));
+        assertIterableEquals(Arrays.asList(2L), taskSearchIndex.search("milk", 0, 10).ids());
+        assertIterableEquals(Arrays.asList(1L), taskSearchIndex.search("bread", 0, 10).ids());
+
+        taskSearchIndex.onTaskChange(TaskChangeEvent.deleted(2L));
+        assertEquals(0, taskSearchIndex.search("milk", 0, 10).total());
+    }
+
+    @Test
+    void whenTasksChangeWhileTheIndexIsRebuilt_thenTheRowsReadBeforeTheChangeAreSkipped() {
+        TaskDTO updatedTask = new TaskDTO();
+            updatedTask.setId(1L);
+            updatedTask.setTitle("Buy bread");
+            updatedTask.setDescription("Whole grain");
+        Task staleTask1 = new Task(1L, "Buy milk", "Remember the oat milk", null, null);
+        Task staleTask2 = new Task(2L, "Write report", "Quarterly report, mention milk prices", null, null);
+
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+            ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
+        // Both rows are read by the cursor, then changed before the rebuild gets to index them.
+        when(taskRepository.streamAllOrderedById()).thenReturn(Stream.of(staleTask1, staleTask2).map(task -> {
+            if (task == staleTask1) {
+                taskSearchIndex.onTaskChange(TaskChangeEvent.updated(updatedTask));
+                taskSearchIndex.onTaskChange(TaskChangeEvent.deleted(2L));
+            }
+            return task;
+        }));
+
+        taskSearchIndex.rebuild();
+
+        assertEquals(0, taskSearchIndex.search("milk", 0, 10).total());
+        assertIterableEquals(Arrays.asList(1L), taskSearchIndex.search("bread", 0, 10).ids());
+        assertIterableEquals(Arrays.asList(3L), taskSearchIndex.search("plumber", 0, 10).ids());
+    }
+
+    @Test
+    void whenTasksSharingATermAreIndexedWhileItsPostingListEmpties_thenNoPostingIsLost() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // Two tasks take turns emptying the posting list of "shared"; each checks its own posting right after indexing.
+            List<Future<Integer>> churns = new ArrayList<>();
+            for (long id = 10; id < 12; id++) {
+                final long ownId = id;
+                churns.add(executor.submit(() -> {
+                    int lost = 0;
+                    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+                    while (System.nanoTime() < deadline) {
+                        taskSearchIndex.index(ownId, "shared", "churn");
+                        if (!taskSearchIndex.search("shared", 0, 10).ids().contains(ownId)) {
+                            lost++;
+                        }
+                        taskSearchIndex.remove(ownId);
+                    }
+                    return lost;
+                }));
+            }
+            for (Future<Integer> churn : churns) {
+                assertEquals(0, churn.get(1, TimeUnit.MINUTES));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -2,30 +2,65 @@ package com.mendes.task_manager.unit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mendes.task_manager.configuration.cache.CacheConfig;
+import com.mendes.task_manager.dto.TaskBatchResultDTO;
 import com.mendes.task_manager.dto.TaskDTO;
+import com.mendes.task_manager.dto.TaskField;
+import com.mendes.task_manager.dto.TaskFilter;
+import com.mendes.task_manager.dto.TaskPageDTO;
 import com.mendes.task_manager.dto.TaskRequestDTO;
+import com.mendes.task_manager.dto.TaskSearchPageDTO;
+import com.mendes.task_manager.dto.TaskSort;
 import com.mendes.task_manager.dto.mapper.TaskMapper;
+import com.mendes.task_manager.exception.InvalidQueryParameterException;
 import com.mendes.task_manager.exception.TaskNotFoundException;
+import com.mendes.task_manager.exception.TaskVersionMismatchException;
 import com.mendes.task_manager.model.Task;
 import com.mendes.task_manager.repository.TaskRepository;
 import com.mendes.task_manager.service.TaskService;
+import com.mendes.task_manager.service.event.TaskChangeEvent;
+import com.mendes.task_manager.service.pagination.TaskCursor;
+import com.mendes.task_manager.service.search.TaskSearchIndex;
+import com.mendes.task_manager.service.sharding.TaskShards;
+import com.mendes.task_manager.service.writebehind.TaskWriteBehind;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
 
 @ExtendWith(MockitoExtension.class)
 public class TaskServiceUnitTest {
@@ -36,6 +71,33 @@ public class TaskServiceUnitTest {
     @Mock
     private TaskMapper taskMapper;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache cache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TaskSearchIndex taskSearchIndex;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    private TaskWriteBehind taskWriteBehind;
+
+    @Spy
+    private TaskShards taskShards = new TaskShards();
+
     @InjectMocks
     private TaskService taskService;
 
@@ -89,6 +151,59 @@ public class TaskServiceUnitTest {
         assertEquals(0, result.size());
     }
 
+    @Test
+    void whenPageIsFull_thenNextCursorShouldPointAfterLastTask() {
+        final int LIMIT = 1;
+        TaskDTO taskDTO1 = new TaskDTO(task1);
+
+        when(taskRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(LIMIT))).thenReturn(Arrays.asList(task1));
+        when(taskMapper.toTaskDTO(task1)).thenReturn(taskDTO1);
+
+        TaskPageDTO result = taskService.findTaskPage(null, LIMIT);
+
+        assertNotNull(result);
+        assertEquals(1, result.tasks().size());
+        assertEquals(TaskCursor.encode(task1.getId()), result.next());
+        assertEquals(1, meterRegistry.get("task.service.result.size").tag("operation", "findPage").summary().count());
+    }
+
+    @Test
+    void whenPageIsNotFull_thenNoNextCursorShouldBeReturned() {
+        final int LIMIT = 10;
+        String cursor = TaskCursor.encode(task1.getId());
+
+        when(taskRepository.findByIdGreaterThanOrderByIdAsc(task1.getId(), Limit.of(LIMIT))).thenReturn(Arrays.asList());
+
+        TaskPageDTO result = taskService.findTaskPage(cursor, LIMIT);
+
+        assertNotNull(result);
+        assertEquals(0, result.tasks().size());
+        assertNull(result.next());
+    }
+
+    @Test
+    void whenCursorIsInvalid_thenInvalidQueryParameterExceptionShouldBeRaised() {
+        assertThrows(InvalidQueryParameterException.class, () -> taskService.findTaskPage("not a cursor", 10));
+    }
+
+    @Test
+    void whenStreamingAllTasks_thenEveryTaskShouldBeMappedAndDetached() {
+        TaskDTO taskDTO1 = new TaskDTO(task1);
+        List<TaskDTO> received = new ArrayList<>();
+
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+            ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
+        when(taskRepository.streamAllOrderedById()).thenReturn(Stream.of(task1));
+        when(taskMapper.toTaskDTO(task1)).thenReturn(taskDTO1);
+
+        taskService.streamAllTasks(received::add);
+
+        verify(entityManager, times(1)).detach(task1);
+
+        assertEquals(1, received.size());
+        assertEquals(taskDTO1, received.get(0));
+    }
+
     @Test
     void whenTaskIsFoundById_thenTaskDTOShouldBeReturned() {
         final Long ID = 1L;
@@ -121,6 +236,44 @@ public class TaskServiceUnitTest {
         assertEquals(exception.getMessage(), String.format("Task with ID %s not found.", ID));
     }
 
+    @Test
+    void whenFindingTaskPageWithFields_thenOnlyProjectionShouldBeQueried() {
+        final Set<TaskField> FIELDS = TaskField.parse("title");
+        TaskDTO projectedTask = TaskField.project(new TaskDTO(task1), FIELDS);
+
+        when(taskRepository.findProjectedPage(0L, 1, FIELDS)).thenReturn(List.of(projectedTask));
+
+        TaskPageDTO result = taskService.findTaskPage(null, 1, FIELDS);
+
+        verify(taskRepository, times(0)).findByIdGreaterThanOrderByIdAsc(any(Long.class), any(Limit.class));
+        assertEquals(List.of(projectedTask), result.tasks());
+        assertEquals(TaskCursor.encode(task1.getId()), result.next());
+        assertNull(result.tasks().get(0).getDescription());
+    }
+
+    @Test
+    void whenFindingSortedTaskPage_thenSortKeyShouldBeSelectedForTheCursorAndTrimmed() {
+        final TaskSort SORT = TaskSort.parse("-createdAt");
+        final TaskFilter FILTER = TaskFilter.parse("title", null, null, null, null);
+        TaskDTO foundTask = TaskField.project(new TaskDTO(task1), EnumSet.of(TaskField.ID, TaskField.TITLE, TaskField.CREATED_AT));
+
+        when(taskRepository.findProjectedPage(FILTER, SORT, null, null, 1,
+                                                EnumSet.of(TaskField.ID, TaskField.TITLE, TaskField.CREATED_AT)))
+            .thenReturn(List.of(foundTask));
+
+        TaskPageDTO result = taskService.findTaskPage(FILTER, SORT, null, 1, TaskField.parse("title"));
+
+        assertEquals(1, result.tasks().size());
+        assertEquals(task1.getTitle(), result.tasks().get(0).getTitle());
+        assertNull(result.tasks().get(0).getCreatedAt());
+        assertEquals(TaskCursor.encode(SORT, foundTask), result.next());
+
+        TaskCursor.Position after = TaskCursor.decode(result.next(), SORT);
+        assertEquals(task1.getId(), after.id());
+        assertEquals(task1.getCreatedAt(), after.value());
+        assertThrows(InvalidQueryParameterException.class, () -> TaskCursor.decode(result.next(), TaskSort.DEFAULT));
+    }
+
     @Test
     void whenTaskIsSaved_thenTaskDTOShouldBeReturned() {
         TaskRequestDTO taskRequestDTO = new TaskRequestDTO(task1);
@@ -136,11 +289,27 @@ public class TaskServiceUnitTest {
         verify(taskMapper, times(1)).toTaskEntity(taskRequestDTO);
         verify(taskRepository, times(1)).save(task1);
         verify(taskMapper, times(1)).toTaskDTO(task1);
+        verify(eventPublisher, times(1)).publishEvent(TaskChangeEvent.created(taskDTO1));
 
         assertNotNull(result);
         assertEquals(taskDTO1, result);
     }
 
+    @Test
+    void whenTaskIsSavedWithWriteBehind_thenTaskShouldBeJournaledInsteadOfInserted() {
+        TaskRequestDTO taskRequestDTO = new TaskRequestDTO(task1);
+        TaskDTO journaledTask = new TaskDTO(task1);
+
+        when(taskWriteBehind.isEnabled()).thenReturn(true);
+        when(taskWriteBehind.enqueue(taskRequestDTO)).thenReturn(journaledTask);
+
+        TaskDTO result = taskService.saveTask(taskRequestDTO);
+
+        verify(taskRepository, times(0)).save(any(Task.class));
+        verify(eventPublisher, times(1)).publishEvent(TaskChangeEvent.created(journaledTask));
+        assertEquals(journaledTask, result);
+    }
+
     @Test
     void whenTaskIsUpdated_thenUpdatedTaskDTOShouldBeReturned() {
         final Long ID = 1L;
@@ -159,24 +328,122 @@ public class TaskServiceUnitTest {
 
         TaskDTO updatedTaskDTO = new TaskDTO(updatedTask);
 
-        when(taskRepository.findById(ID)).thenReturn(Optional.of(task1));
-        when(taskRepository.save(task1)).thenReturn(updatedTask);
+        when(taskRepository.updateTask(eq(ID), eq(requestDTO.getTitle()), eq(requestDTO.getDescription()), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(updatedTask));
         when(taskMapper.toTaskDTO(updatedTask)).thenReturn(updatedTaskDTO);
        
         TaskDTO result = taskService.updateTask(ID, requestDTO);
 
+        verify(taskRepository, times(0)).findById(ID);
         verify(taskMapper, times(1)).toTaskDTO(updatedTask);
+        verify(eventPublisher, times(1)).publishEvent(TaskChangeEvent.updated(updatedTaskDTO));
         
         assertNotNull(result);
         assertEquals(updatedTaskDTO, result);
     }
 
+    @Test
+    void whenUpdatedTaskIsNotFound_thenNoTaskFoundExceptionShouldBeRaised() {
+        final Long ID = 0L;
+
+        TaskRequestDTO requestDTO = new TaskRequestDTO(task1);
+
+        when(taskRepository.updateTask(eq(ID), eq(requestDTO.getTitle()), eq(requestDTO.getDescription()), any(LocalDateTime.class)))
+                .thenReturn(Optional.empty());
+
+        TaskNotFoundException exception = assertThrows(TaskNotFoundException.class,
+                                                            () -> taskService.updateTask(ID, requestDTO));
+
+        assertNotNull(exception);
+        assertEquals(exception.getMessage(), String.format("Task with ID %s not found.", ID));
+    }
+
+    @Test
+    void whenUpdatedTaskVersionIsStale_thenTaskVersionMismatchExceptionShouldBeRaised() {
+        final Long ID = 1L;
+        final List<LocalDateTime> EXPECTED_VERSIONS = List.of(task1.getLastUpdatedAt().minusMinutes(1));
+
+        TaskRequestDTO requestDTO = new TaskRequestDTO(task1);
+
+        when(taskRepository.updateTaskIfVersion(eq(ID), eq(requestDTO.getTitle()), eq(requestDTO.getDescription()),
+                                                any(LocalDateTime.class), eq(EXPECTED_VERSIONS)))
+                .thenReturn(Optional.empty());
+        when(taskRepository.existsById(ID)).thenReturn(true);
+
+        TaskVersionMismatchException exception = assertThrows(TaskVersionMismatchException.class,
+                                                            () -> taskService.updateTask(ID, requestDTO, EXPECTED_VERSIONS));
+
+        assertEquals(String.format("Task with ID %s has been modified since it was last read.", ID), exception.getMessage());
+        verify(eventPublisher, times(0)).publishEvent(any(TaskChangeEvent.class));
+    }
+
     @Test
     void whenDeletingTaskById_thenRepositoryDeleteByIdShouldBeCalled() {
         final Long ID = 1L;
 
+        when(taskRepository.deleteTaskById(ID)).thenReturn(1);
+
         taskService.deleteTaskById(ID);
 
-        verify(taskRepository, times(1)).deleteById(ID);
+        verify(taskRepository, times(1)).deleteTaskById(ID);
+        verify(eventPublisher, times(1)).publishEvent(TaskChangeEvent.deleted(ID));
+    }
+
+    @Test
+    void whenDeletingMissingTaskById_thenNoEventShouldBePublished() {
+        final Long ID = 1L;
+
+        when(taskRepository.deleteTaskById(ID)).thenReturn(0);
+
+        taskService.deleteTaskById(ID);
+
+        verify(eventPublisher, times(0)).publishEvent(any());
+    }
+
+    @Test
+    void whenSearchingTasks_thenTasksShouldBeReturnedInRankOrder() {
+        Task task2 = new Task();
+            task2.setId(2L);
+            task2.setTitle("title 2");
+            task2.setDescription("description 2");
+
+        TaskDTO taskDTO1 = new TaskDTO(task1);
+        TaskDTO taskDTO2 = new TaskDTO(task2);
+
+        when(taskSearchIndex.search("title", 0, 10)).thenReturn(new TaskSearchIndex.Hits(Arrays.asList(2L, 1L), 2));
+        when(taskRepository.findAllById(Arrays.asList(2L, 1L))).thenReturn(Arrays.asList(task1, task2));
+        when(taskMapper.toTaskDTO(task1)).thenReturn(taskDTO1);
+        when(taskMapper.toTaskDTO(task2)).thenReturn(taskDTO2);
+
+        TaskSearchPageDTO result = taskService.searchTasks("title", 0, 10);
+
+        assertNotNull(result);
+        assertEquals(2, result.totalHits());
+        assertEquals(taskDTO2, result.tasks().get(0));
+        assertEquals(taskDTO1, result.tasks().get(1));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void whenDeletingTaskBatch_thenExistingTasksShouldBeDeletedAndMissingReported() {
+        final List<Long> IDS = Arrays.asList(1L, 2L, -1L);
+
+        doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(taskRepository.findExistingIds(Arrays.asList(1L, 2L))).thenReturn(Set.of(1L));
+        when(cacheManager.getCache(CacheConfig.TASKS_CACHE)).thenReturn(cache);
+
+        List<TaskBatchResultDTO> results = taskService.deleteTasks(IDS);
+
+        verify(taskRepository, times(1)).deleteAllByIdInBatch(Set.of(1L));
+        verify(cache, times(1)).evict(1L);
+
+        assertEquals(3, results.size());
+        assertEquals(204, results.get(0).statusCode());
+        assertEquals(404, results.get(1).statusCode());
+        assertEquals(String.format("Task with ID %s not found.", 2L), results.get(1).error().errors().get(0));
+        assertEquals(400, results.get(2).statusCode());
     }
 }
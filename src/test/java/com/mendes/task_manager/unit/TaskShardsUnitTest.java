@@ -0,0 +1,47 @@
+package com.mendes.task_manager.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.mendes.task_manager.repository.sharding.TaskShardRouter;
+import com.mendes.task_manager.service.sharding.TaskShards;
+
+public class TaskShardsUnitTest {
+
+    @Test
+    public void whenRoutingByHash_thenConsecutiveIdsAreSpreadRoundRobin() {
+        TaskShardRouter router = new TaskShardRouter(4, TaskShardRouter.Strategy.HASH, 1);
+
+        List<Integer> shards = LongStream.rangeClosed(1, 8).mapToObj(id -> router.shardOf(id)).toList();
+
+        assertEquals(List.of(1, 2, 3, 0, 1, 2, 3, 0), shards);
+    }
+
+    @Test
+    public void whenRoutingByRange_thenEachShardOwnsOneRangeAndTheLastOneTheRest() {
+        TaskShardRouter router = new TaskShardRouter(3, TaskShardRouter.Strategy.RANGE, 100);
+
+        assertEquals(0, router.shardOf(1));
+        assertEquals(0, router.shardOf(100));
+        assertEquals(1, router.shardOf(101));
+        assertEquals(2, router.shardOf(201));
+        assertEquals(2, router.shardOf(1_000_000));
+        assertThrows(IllegalArgumentException.class, () -> new TaskShardRouter(0, TaskShardRouter.Strategy.HASH, 1));
+    }
+
+    @Test
+    public void whenSortedListsAreMerged_thenTheFirstElementsOfTheirUnionAreReturnedInOrder() {
+        List<List<Long>> shards = List.of(List.of(4L, 8L, 12L), List.of(1L, 5L, 9L), List.of(), List.of(3L, 7L));
+
+        assertEquals(List.of(1L, 3L, 4L, 5L, 7L), TaskShards.merge(shards, Comparator.naturalOrder(), 5));
+        assertEquals(List.of(12L, 9L, 8L), TaskShards.merge(List.of(List.of(12L, 8L, 4L), List.of(9L, 5L, 1L)),
+                                                            Comparator.<Long>naturalOrder().reversed(), 3));
+        assertEquals(List.of(1L, 2L), TaskShards.merge(List.of(List.of(1L, 2L, 3L)), Comparator.naturalOrder(), 2));
+    }
+}